@@ -0,0 +1,127 @@
+package com.example.spring_practice.benchmark;
+
+import com.example.spring_practice.global.id.Tsid;
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 10만 건 INSERT 처리량 (초당 INSERT 수).
+ * identity: 기존 방식 ({@code GenerationType.IDENTITY}) → 행마다 즉시 INSERT 해 ID를 받아오므로 배치가 꺼진다
+ * tsid: {@link Tsid} → ID를 미리 발급하므로 hibernate.jdbc.batch_size 단위로 묶어서 전송
+ * 엔티티는 Comment와 같은 컬럼을 가진 벤치마크 전용 복사본이다 (H2 MySQL 모드, 메모리 DB).
+ * 메모리 DB라 네트워크 왕복 비용이 없으므로, 실제 MySQL에서는 차이가 더 크게 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CommentInsertBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    private SessionFactory sessionFactory;
+
+    @Entity(name = "IdentityComment")
+    @Table(name = "identity_comment")
+    public static class IdentityComment {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long commentId;
+        String content;
+        LocalDateTime createdAt;
+        Long authorId;
+        Long postId;
+    }
+
+    @Entity(name = "TsidComment")
+    @Table(name = "tsid_comment")
+    public static class TsidComment {
+        @Id
+        @Tsid
+        Long commentId;
+        String content;
+        LocalDateTime createdAt;
+        Long authorId;
+        Long postId;
+    }
+
+    @Setup
+    public void setup() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:comment-insert;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityComment.class)
+                .addAnnotatedClass(TsidComment.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // 매 호출을 빈 테이블에서 시작
+    @Setup(Level.Invocation)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("TRUNCATE TABLE identity_comment").executeUpdate();
+            session.createNativeMutationQuery("TRUNCATE TABLE tsid_comment").executeUpdate();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identity() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                IdentityComment comment = new IdentityComment();
+                comment.content = "댓글 " + i;
+                comment.createdAt = LocalDateTime.now();
+                comment.authorId = (long) (i % 1000);
+                comment.postId = (long) (i % 100);
+                session.persist(comment);
+                flushPeriodically(session, i);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void tsid() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                TsidComment comment = new TsidComment();
+                comment.content = "댓글 " + i;
+                comment.createdAt = LocalDateTime.now();
+                comment.authorId = (long) (i % 1000);
+                comment.postId = (long) (i % 100);
+                session.persist(comment);
+                flushPeriodically(session, i);
+            }
+        });
+    }
+
+    // 대량 입력 시 영속성 컨텍스트가 커지지 않도록 주기적으로 비운다
+    private static void flushPeriodically(Session session, int i) {
+        if ((i + 1) % FLUSH_INTERVAL == 0) {
+            session.flush();
+            session.clear();
+        }
+    }
+}
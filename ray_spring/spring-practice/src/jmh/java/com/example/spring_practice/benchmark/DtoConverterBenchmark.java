@@ -0,0 +1,71 @@
+package com.example.spring_practice.benchmark;
+
+import com.example.spring_practice.domain.comment.dto.CommentDtoConverter;
+import com.example.spring_practice.domain.comment.dto.CommentResponseDto;
+import com.example.spring_practice.domain.comment.entity.Comment;
+import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.domain.post.dto.PostDtoConverter;
+import com.example.spring_practice.domain.post.dto.PostResponseDto;
+import com.example.spring_practice.domain.post.dto.PostSummaryQueryDto;
+import com.example.spring_practice.domain.post.dto.PostSummaryResponseDto;
+import com.example.spring_practice.domain.post.entity.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티/조회 DTO → 응답 DTO 변환 한 건의 비용 (이미지 URL은 미리 만든 값을 넘긴다).
+ * 피드는 페이지 크기만큼, 댓글 목록은 댓글 수만큼 반복되므로 건당 비용에 곱해서 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoConverterBenchmark {
+    private static final String IMG_URL = "http://localhost:8080/images/ab/cd/abcdef.jpg";
+
+    private PostSummaryQueryDto summary;
+    private Post post;
+    private Comment comment;
+
+    @Setup
+    public void setup() {
+        LocalDateTime now = LocalDateTime.now();
+        Member member = Member.builder()
+                .memberId(1L)
+                .email("bench@test.com")
+                .nickname("bench")
+                .profileImgUrl("ab/cd/profile.jpg").build();
+        summary = new PostSummaryQueryDto(1L, "벤치마크 제목", now, "bench", "ab/cd/abcdef.jpg", 12L, 345L, 6L);
+        post = Post.builder()
+                .postId(1L)
+                .title("벤치마크 제목")
+                .content("벤치마크 본문 ".repeat(40))
+                .createdAt(now)
+                .member(member)
+                .likeCount(12)
+                .commentCount(6)
+                .imgUrl("ab/cd/abcdef.jpg").build();
+        comment = Comment.builder()
+                .commentId(1L)
+                .content("벤치마크 댓글")
+                .createdAt(now)
+                .member(member)
+                .post(post).build();
+    }
+
+    @Benchmark
+    public PostSummaryResponseDto toPostSummaryResponseDto() {
+        return PostDtoConverter.toPostSummaryResponseDto(summary, IMG_URL, true);
+    }
+
+    @Benchmark
+    public PostResponseDto toPostResponseDto() {
+        return PostDtoConverter.toPostResponseDto(post, IMG_URL, 1L, true, 345L);
+    }
+
+    @Benchmark
+    public CommentResponseDto toCommentResponseDto() {
+        return CommentDtoConverter.toCommentResponseDto(comment, IMG_URL, 1L);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.spring_practice.benchmark;
+
+import com.example.spring_practice.domain.post.dto.PostSummaryResponseDto;
+import com.example.spring_practice.global.response.ApiResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 응답 본문(ApiResponse<List<PostSummaryResponseDto>>)의 JSON 직렬화 비용.
+ * 기본 페이지 크기(10)와 최대 페이지 크기(PostService.MAX_PAGE_SIZE = 50) 기준이며,
+ * ObjectMapper는 스프링 부트와 같은 Jackson2ObjectMapperBuilder 기본값으로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedSerializationBenchmark {
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<PostSummaryResponseDto>> response;
+
+    @Setup
+    public void setup() {
+        writer = Jackson2ObjectMapperBuilder.json().build()
+                .writerFor(new TypeReference<ApiResponse<List<PostSummaryResponseDto>>>() {});
+        LocalDateTime now = LocalDateTime.now();
+        List<PostSummaryResponseDto> posts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            posts.add(new PostSummaryResponseDto(
+                    (long) i,
+                    "게시글 제목 " + i,
+                    now.minusMinutes(i),
+                    "작성자" + i,
+                    "http://localhost:8080/images/ab/cd/thumb-" + i + ".jpg",
+                    i * 3L,
+                    i * 17L,
+                    i * 2L,
+                    i % 2 == 0));
+        }
+        response = ApiResponse.success("게시글 목록 조회 성공", posts);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
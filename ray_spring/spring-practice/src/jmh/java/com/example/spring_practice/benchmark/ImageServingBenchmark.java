@@ -0,0 +1,119 @@
+package com.example.spring_practice.benchmark;
+
+import com.example.spring_practice.domain.shared.ImageController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 한 건 제공 비용 비교 (처리량 = 초당 요청 수, bytes = 초당 전송 바이트).
+ * legacy: 기존 WebConfig의 ResourceHttpRequestHandler (캐시 헤더 없음, Last-Modified 재검증)
+ * controller: ImageController (immutable 캐시, 해시 ETag)
+ * firstView는 본문 전송, revalidate는 브라우저 재검증(304)이다.
+ * immutable 캐시가 적용된 뒤의 재방문은 요청 자체가 없어지므로, 실제 차이는 revalidate 횟수만큼 더 벌어진다.
+ * Mock 응답은 메모리 버퍼라 sendfile 경로는 타지 않는다 (커널 전송 효과는 실제 소켓 부하 테스트로 확인).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImageServingBenchmark {
+    @Param({"16384", "1048576"})
+    private int fileSize;
+
+    private Path uploadDir;
+    private String relativePath;
+    private String etag;
+    private long lastModified;
+    private ResourceHttpRequestHandler legacyHandler;
+    private ImageController imageController;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Transferred {
+        public long bytes;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        uploadDir = Files.createTempDirectory("image-bench");
+        byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        relativePath = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".jpg";
+        Path file = uploadDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        etag = "\"" + hash + "\"";
+        lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        legacyHandler = new ResourceHttpRequestHandler();
+        legacyHandler.setLocations(List.of(new FileSystemResource(uploadDir + "/")));
+        legacyHandler.afterPropertiesSet();
+        imageController = new ImageController(uploadDir.toString(), 1000);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int legacyFirstView(Transferred transferred) throws Exception {
+        return serveLegacy(legacyRequest(), transferred);
+    }
+
+    @Benchmark
+    public int legacyRevalidate(Transferred transferred) throws Exception {
+        MockHttpServletRequest request = legacyRequest();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        return serveLegacy(request, transferred);
+    }
+
+    @Benchmark
+    public int controllerFirstView(Transferred transferred) throws Exception {
+        return serveController(new MockHttpServletRequest("GET", "/images/" + relativePath), transferred);
+    }
+
+    @Benchmark
+    public int controllerRevalidate(Transferred transferred) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + relativePath);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        return serveController(request, transferred);
+    }
+
+    private MockHttpServletRequest legacyRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + relativePath);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, relativePath);
+        return request;
+    }
+
+    private int serveLegacy(MockHttpServletRequest request, Transferred transferred) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        legacyHandler.handleRequest(request, response);
+        transferred.bytes += response.getContentAsByteArray().length;
+        return response.getStatus();
+    }
+
+    private int serveController(MockHttpServletRequest request, Transferred transferred) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageController.serve(request, response);
+        transferred.bytes += response.getContentAsByteArray().length;
+        return response.getStatus();
+    }
+}
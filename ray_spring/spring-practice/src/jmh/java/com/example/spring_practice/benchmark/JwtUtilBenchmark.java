@@ -0,0 +1,47 @@
+package com.example.spring_practice.benchmark;
+
+import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 공개 메서드별 비용. 발급은 로그인마다, 검증/이메일 추출은 인증 요청마다 실행된다.
+ * cacheMaxSize=0은 검증 캐시 없이 매번 서명을 확인하는 경우, 10000은 운영 설정(캐시 적중)이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+    private static final String SECRET = "qeofjimqrpijbqniperjwdfkomfevnjgipawfmkoerjioawfdkslkejvoi9519845146545648ewf654";
+    private static final long EXPIRATION = 86400000L;
+
+    @Param({"0", "10000"})
+    private long cacheMaxSize;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, cacheMaxSize);
+        token = jwtUtil.generateToken(1L, "bench@test.com", MemberPrincipal.DEFAULT_ROLE);
+        jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(1L, "bench@test.com", MemberPrincipal.DEFAULT_ROLE);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return jwtUtil.getEmailFromToken(token);
+    }
+}
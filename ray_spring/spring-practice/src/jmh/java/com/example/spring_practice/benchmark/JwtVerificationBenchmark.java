@@ -0,0 +1,60 @@
+package com.example.spring_practice.benchmark;
+
+import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 JWT 인증 비용 비교.
+ * legacy: 요청마다 키 유도 + 파서 생성 + 검증을 두 번 (validateToken, getEmailFromToken)
+ * singleParse: 키/파서 재사용, 한 번만 파싱
+ * cached: 검증 완료 토큰 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "qeofjimqrpijbqniperjwdfkomfevnjgipawfmkoerjioawfdkslkejvoi9519845146545648ewf654";
+    private static final long EXPIRATION = 86400000L;
+
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, 0);
+        cachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, 10_000);
+        token = cachedJwtUtil.generateToken(1L, "bench@test.com", MemberPrincipal.DEFAULT_ROLE);
+        cachedJwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public String legacy() {
+        // 기존 JwtFilter 흐름 재현
+        Jwts.parser().verifyWith(legacySigningKey()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(legacySigningKey()).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return uncachedJwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return cachedJwtUtil.parseClaims(token);
+    }
+
+    private static SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
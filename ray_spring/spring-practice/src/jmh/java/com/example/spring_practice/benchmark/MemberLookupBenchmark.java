@@ -0,0 +1,108 @@
+package com.example.spring_practice.benchmark;
+
+import com.example.spring_practice.global.id.Tsid;
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 조회 지연 시간 (2차 캐시 on/off). 요청마다 새 세션(영속성 컨텍스트)에서 조회하는 실제 흐름과 같다.
+ * byEmail: 로그인/인증 (email 자연 키 → memberId → 엔티티)
+ * byId: 토큰의 memberId로 회원 조회 (AuthService.getCurrentMember, 댓글 작성 등)
+ * 엔티티는 Member와 같은 컬럼과 캐시 설정을 가진 벤치마크 전용 복사본이고, 리전 설정은 main의 application.conf를 그대로 쓴다.
+ * 메모리 DB라 네트워크 왕복 비용이 없으므로, 실제 MySQL에서는 차이가 더 크게 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class MemberLookupBenchmark {
+    private static final int MEMBERS = 10_000;
+
+    @Param({"false", "true"})
+    private boolean secondLevelCache;
+
+    private SessionFactory sessionFactory;
+    private Long[] memberIds;
+
+    @Entity(name = "CachedMember")
+    @Table(name = "cached_member")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+    @NaturalIdCache(region = "member-natural-id")
+    public static class CachedMember {
+        @Id
+        @Tsid
+        Long memberId;
+        @NaturalId
+        String email;
+        String password;
+        String nickname;
+        String profileImgUrl;
+    }
+
+    @Setup
+    public void setup() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:member-lookup;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, secondLevelCache)
+                .applySetting(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+                .applySetting(ConfigSettings.PROVIDER, "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+                .applySetting(ConfigSettings.MISSING_CACHE_STRATEGY, "fail")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(CachedMember.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        memberIds = new Long[MEMBERS];
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < MEMBERS; i++) {
+                CachedMember member = new CachedMember();
+                member.email = email(i);
+                member.password = "$2a$10$abcdefghijklmnopqrstuvwxyz0123456789ABCDEFGHIJKLMNOPQ";
+                member.nickname = "user" + i;
+                member.profileImgUrl = "profile/" + i + ".png";
+                session.persist(member);
+                memberIds[i] = member.memberId;
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public CachedMember byEmail() {
+        String email = email(ThreadLocalRandom.current().nextInt(MEMBERS));
+        return sessionFactory.fromTransaction(session ->
+                session.bySimpleNaturalId(CachedMember.class).load(email));
+    }
+
+    @Benchmark
+    public CachedMember byId() {
+        Long memberId = memberIds[ThreadLocalRandom.current().nextInt(MEMBERS)];
+        return sessionFactory.fromTransaction(session -> session.find(CachedMember.class, memberId));
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@bench.com";
+    }
+}
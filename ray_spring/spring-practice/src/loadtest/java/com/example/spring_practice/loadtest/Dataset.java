@@ -0,0 +1,74 @@
+package com.example.spring_practice.loadtest;
+
+/**
+ * 시드된 데이터의 ID 범위와 인기도 분포. 회원/게시글 ID는 base부터 연속이라고 가정한다 (DatasetSeeder가 1부터 직접 지정).
+ * 인기 순위는 서로소 stride로 게시글 ID에 흩어 두어, 인기 게시글이 가장 오래된/최신 글에 몰리지 않게 한다.
+ */
+public class Dataset {
+    static final String PASSWORD = "Asdf1234@";
+
+    private final long memberIdBase;
+    private final int memberCount;
+    private final long postIdBase;
+    private final int postCount;
+    private final long stride;
+    private final ZipfDistribution postPopularity;
+
+    Dataset(long memberIdBase, int memberCount, long postIdBase, int postCount, double zipfExponent) {
+        this.memberIdBase = memberIdBase;
+        this.memberCount = memberCount;
+        this.postIdBase = postIdBase;
+        this.postCount = postCount;
+        this.stride = coprimeStride(postCount);
+        this.postPopularity = new ZipfDistribution(postCount, zipfExponent);
+    }
+
+    int memberCount() {
+        return memberCount;
+    }
+
+    int postCount() {
+        return postCount;
+    }
+
+    ZipfDistribution postPopularity() {
+        return postPopularity;
+    }
+
+    // 인기 순위 → 게시글 인덱스 (0..postCount-1)
+    int postIndexForRank(int rank) {
+        return (int) (rank * stride % postCount);
+    }
+
+    long postId(int postIndex) {
+        return postIdBase + postIndex;
+    }
+
+    long memberId(int memberIndex) {
+        return memberIdBase + memberIndex;
+    }
+
+    static String email(int memberIndex) {
+        return "user" + memberIndex + "@loadtest.com";
+    }
+
+    static String nickname(int memberIndex) {
+        return "u" + memberIndex;
+    }
+
+    // 황금비 근처에서 n과 서로소인 값을 찾는다
+    private static long coprimeStride(int n) {
+        if (n <= 2) {
+            return 1;
+        }
+        long stride = (long) (n * 0.6180339887);
+        while (gcd(stride, n) != 1) {
+            stride++;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
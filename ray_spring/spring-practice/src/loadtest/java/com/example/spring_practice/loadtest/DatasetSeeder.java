@@ -0,0 +1,177 @@
+package com.example.spring_practice.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 데이터 대량 입력. JPA를 거치지 않고 JDBC 배치로 넣는다.
+ * 좋아요/댓글 수는 게시글 인기 순위의 Zipf 분포를 따르고, 게시글 작성자도 일부 회원에 몰리게 한다.
+ * 한 게시글의 좋아요는 임의 시작점부터 연속한 회원으로 채워 (게시글, 회원) 쌍이 겹치지 않는다.
+ * 모든 회원은 같은 비밀번호 해시를 쓴다 (BCrypt를 회원 수만큼 계산하지 않도록).
+ * ID는 1부터 연속으로 직접 넣는다. 애플리케이션이 발급하는 TSID(@Tsid)보다 항상 작아 이후 INSERT와 겹치지 않는다.
+ */
+public class DatasetSeeder {
+    private static final int BATCH_SIZE = 1_000;
+    private static final long PROGRESS_INTERVAL = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestOptions options;
+    private final Random random = new Random(42);
+
+    public DatasetSeeder(JdbcTemplate jdbcTemplate, LoadTestOptions options) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.options = options;
+    }
+
+    public Dataset seed() {
+        Long existingPosts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post", Long.class);
+        if (existingPosts != null && existingPosts > 0) {
+            throw new IllegalStateException("post 테이블에 이미 데이터가 있습니다. 재사용하려면 --seed=false");
+        }
+
+        Dataset dataset = new Dataset(1, options.members, 1, options.posts, options.zipfExponent);
+        insertMembers(dataset);
+
+        long[] likeCounts = allocate(dataset, options.likes, options.members);
+        long[] commentCounts = allocate(dataset, options.comments, options.maxCommentsPerPost);
+        LocalDateTime firstPostAt = LocalDateTime.now().minusDays(365);
+        insertPosts(dataset, likeCounts, commentCounts, firstPostAt);
+        insertLikes(dataset, likeCounts);
+        insertComments(dataset, commentCounts, firstPostAt);
+        return dataset;
+    }
+
+    // 기존 데이터 재사용 (--seed=false): 연속 ID라고 가정하고 범위만 읽는다
+    public Dataset load() {
+        long memberIdBase = minId("member", "member_id");
+        long postIdBase = minId("post", "post_id");
+        int memberCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Integer.class);
+        int postCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post", Integer.class);
+        return new Dataset(memberIdBase, memberCount, postIdBase, postCount, options.zipfExponent);
+    }
+
+    private void insertMembers(Dataset dataset) {
+        String encodedPassword = new BCryptPasswordEncoder().encode(Dataset.PASSWORD);
+        BatchInserter inserter = new BatchInserter("member",
+                "INSERT INTO member (member_id, email, password, nickname, profile_img_url) VALUES (?, ?, ?, ?, ?)");
+        for (int i = 0; i < options.members; i++) {
+            inserter.add(dataset.memberId(i), Dataset.email(i), encodedPassword, Dataset.nickname(i), null);
+        }
+        inserter.finish();
+    }
+
+    // 인기 순위별 기대 개수 (게시글 인덱스 기준). 좋아요는 회원 수, 댓글은 max-comments-per-post를 넘지 않는다
+    private static long[] allocate(Dataset dataset, long total, long perPostCap) {
+        long[] counts = new long[dataset.postCount()];
+        for (int rank = 0; rank < dataset.postCount(); rank++) {
+            long count = Math.round(total * dataset.postPopularity().probability(rank));
+            counts[dataset.postIndexForRank(rank)] = Math.min(count, perPostCap);
+        }
+        return counts;
+    }
+
+    private void insertPosts(Dataset dataset, long[] likeCounts, long[] commentCounts, LocalDateTime firstPostAt) {
+        // 작성자도 소수 회원에 몰리도록 Zipf로 고른다
+        ZipfDistribution authors = new ZipfDistribution(options.members, options.zipfExponent);
+        long secondsPerPost = Math.max(1, 365L * 24 * 3600 / options.posts);
+        BatchInserter inserter = new BatchInserter("post",
+                "INSERT INTO post (post_id, title, content, created_at, deleted, author_id, view_count, like_count, comment_count, img_url) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < options.posts; i++) {
+            inserter.add(
+                    dataset.postId(i),
+                    "게시글 " + i,
+                    "부하 테스트 본문 " + i + " " + "내용".repeat(50),
+                    Timestamp.valueOf(firstPostAt.plusSeconds(i * secondsPerPost)),
+                    false,
+                    dataset.memberId(authors.sample(random)),
+                    likeCounts[i] * 5,
+                    likeCounts[i],
+                    commentCounts[i],
+                    i % 3 == 0 ? null : "loadtest/" + i + ".jpg");
+        }
+        inserter.finish();
+    }
+
+    private void insertLikes(Dataset dataset, long[] likeCounts) {
+        BatchInserter inserter = new BatchInserter("post_like",
+                "INSERT INTO post_like (post_like_id, member_id, post_id) VALUES (?, ?, ?)");
+        long postLikeId = 1;
+        for (int i = 0; i < dataset.postCount(); i++) {
+            int start = random.nextInt(dataset.memberCount());
+            for (long j = 0; j < likeCounts[i]; j++) {
+                inserter.add(postLikeId++, dataset.memberId((int) ((start + j) % dataset.memberCount())), dataset.postId(i));
+            }
+        }
+        inserter.finish();
+    }
+
+    private void insertComments(Dataset dataset, long[] commentCounts, LocalDateTime firstPostAt) {
+        long secondsPerPost = Math.max(1, 365L * 24 * 3600 / options.posts);
+        BatchInserter inserter = new BatchInserter("comment",
+                "INSERT INTO comment (comment_id, content, created_at, deleted, author_id, post_id) VALUES (?, ?, ?, ?, ?, ?)");
+        long commentId = 1;
+        for (int i = 0; i < dataset.postCount(); i++) {
+            LocalDateTime postedAt = firstPostAt.plusSeconds(i * secondsPerPost);
+            int start = random.nextInt(dataset.memberCount());
+            for (long j = 0; j < commentCounts[i]; j++) {
+                inserter.add(
+                        commentId++,
+                        "댓글 " + j,
+                        Timestamp.valueOf(postedAt.plusSeconds(j + 1)),
+                        false,
+                        dataset.memberId((int) ((start + j) % dataset.memberCount())),
+                        dataset.postId(i));
+            }
+        }
+        inserter.finish();
+    }
+
+    private long minId(String table, String column) {
+        Long min = jdbcTemplate.queryForObject("SELECT MIN(" + column + ") FROM " + table, Long.class);
+        return min != null ? min : 1L;
+    }
+
+    private class BatchInserter {
+        private final String table;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        private long inserted;
+
+        BatchInserter(String table, String sql) {
+            this.table = table;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void finish() {
+            flush();
+            System.out.printf("[seed] %s: %,d건%n", table, inserted);
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            long before = inserted;
+            inserted += rows.size();
+            rows.clear();
+            if (before / PROGRESS_INTERVAL != inserted / PROGRESS_INTERVAL) {
+                System.out.printf("[seed] %s: %,d건 입력 중%n", table, inserted);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.spring_practice.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간(HdrHistogram, 마이크로초)과 오류 수 집계.
+ * 워밍업이 끝나면 reset으로 그때까지의 기록을 버린다.
+ */
+public class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    static final String SUMMARY_FILE = "summary.tsv";
+    static final String[] SUMMARY_COLUMNS = {
+            "endpoint", "requests", "req_per_sec", "p50_ms", "p90_ms", "p99_ms", "p999_ms", "max_ms", "errors"};
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        recorders.computeIfAbsent(endpoint, key -> new Recorder(HIGHEST_TRACKABLE_MICROS, 3)).recordValue(micros);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * 엔드포인트별 처리량과 백분위 지연(ms)을 출력하고, 분포 전체는 outputDir/<엔드포인트>.hgrm으로 남긴다.
+     * 같은 표를 outputDir/summary.tsv로도 남겨 실행 간 비교(LoadTestComparison)에 쓴다. 첫 줄은 실행 설명(runLabel).
+     */
+    public void report(double elapsedSeconds, Path outputDir, String runLabel) throws IOException {
+        Files.createDirectories(outputDir);
+        System.out.printf("%-32s %10s %10s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(outputDir.resolve(SUMMARY_FILE)), false, StandardCharsets.UTF_8)) {
+            summary.println("# " + runLabel);
+            summary.println(String.join("\t", SUMMARY_COLUMNS));
+            recorders.keySet().stream().sorted().forEach(endpoint -> {
+                Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+                long errorCount = errors.getOrDefault(endpoint, new LongAdder()).sum();
+                Object[] row = {
+                        endpoint,
+                        histogram.getTotalCount(),
+                        histogram.getTotalCount() / elapsedSeconds,
+                        millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(90)),
+                        millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue()),
+                        errorCount};
+                System.out.printf("%-32s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d%n", row);
+                summary.printf(Locale.ROOT, "%s\t%d\t%.1f\t%.2f\t%.2f\t%.2f\t%.2f\t%.2f\t%d%n", row);
+                writeDistribution(outputDir.resolve(fileName(endpoint)), histogram);
+            });
+        }
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        } catch (IOException e) {
+            throw new IllegalStateException("히스토그램 저장 실패: " + file, e);
+        }
+    }
+
+    // "GET /posts/{id}" → "GET_posts_id.hgrm"
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("_+$", "") + ".hgrm";
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.spring_practice.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 두 부하 테스트 실행(summary.tsv)을 엔드포인트별로 비교한다 (./gradlew loadTestCompare).
+ * 인자: 기준 실행 디렉터리, 비교 실행 디렉터리, 결과 파일(마크다운). 처리량과 p99는 기준 대비 변화율도 함께 쓴다.
+ * 예: 플랫폼 스레드(기준)와 가상 스레드(비교) 실행 결과를 비교해 virtual-threads 프로필을 기본으로 켤지 판단한다.
+ */
+public class LoadTestComparison {
+    private static final int REQ_PER_SEC = 2;
+    private static final int P50 = 3;
+    private static final int P99 = 5;
+    private static final int ERRORS = 8;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("인자: <기준 실행 디렉터리> <비교 실행 디렉터리> <결과 파일>");
+        }
+        Summary baseline = Summary.read(Path.of(args[0]));
+        Summary candidate = Summary.read(Path.of(args[1]));
+        Path output = Path.of(args[2]);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(output), false, StandardCharsets.UTF_8)) {
+            out.println("기준: " + baseline.label);
+            out.println();
+            out.println("비교: " + candidate.label);
+            out.println();
+            out.println("| endpoint | req/s (기준) | req/s (비교) | 변화 | p50 ms (기준) | p50 ms (비교) | p99 ms (기준) | p99 ms (비교) | 변화 | errors (기준/비교) |");
+            out.println("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|");
+            for (Map.Entry<String, String[]> entry : baseline.rows.entrySet()) {
+                String[] base = entry.getValue();
+                String[] other = candidate.rows.get(entry.getKey());
+                if (other == null) {
+                    continue;
+                }
+                out.printf(Locale.ROOT, "| %s | %s | %s | %s | %s | %s | %s | %s | %s | %s/%s |%n",
+                        entry.getKey(),
+                        base[REQ_PER_SEC], other[REQ_PER_SEC], change(base[REQ_PER_SEC], other[REQ_PER_SEC]),
+                        base[P50], other[P50],
+                        base[P99], other[P99], change(base[P99], other[P99]),
+                        base[ERRORS], other[ERRORS]);
+            }
+        }
+        System.out.println("[compare] " + output);
+    }
+
+    private static String change(String base, String other) {
+        double baseValue = Double.parseDouble(base);
+        if (baseValue == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (Double.parseDouble(other) - baseValue) / baseValue * 100);
+    }
+
+    private static class Summary {
+        private final String label;
+        private final Map<String, String[]> rows;
+
+        private Summary(String label, Map<String, String[]> rows) {
+            this.label = label;
+            this.rows = rows;
+        }
+
+        // 첫 줄은 "# 실행 설명", 둘째 줄은 헤더 (EndpointStats.report)
+        static Summary read(Path runDir) throws IOException {
+            List<String> lines = Files.readAllLines(runDir.resolve(EndpointStats.SUMMARY_FILE), StandardCharsets.UTF_8);
+            Map<String, String[]> rows = new LinkedHashMap<>();
+            for (String line : lines.subList(2, lines.size())) {
+                String[] columns = line.split("\t");
+                rows.put(columns[0], columns);
+            }
+            return new Summary(lines.get(0).substring(2), rows);
+        }
+    }
+}
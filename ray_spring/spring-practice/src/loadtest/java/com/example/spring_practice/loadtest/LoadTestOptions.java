@@ -0,0 +1,81 @@
+package com.example.spring_practice.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. {@code --key=value} 형식 인자로 덮어쓴다 (./gradlew loadTest -Ploadtest.args="--scale=0.01").
+ * 기본 데이터 규모는 회원 10만, 게시글 100만, 좋아요 1000만, 댓글 500만이며 scale로 한꺼번에 줄일 수 있다.
+ * datasource-url을 주지 않으면 MySQL 호환 모드 H2(메모리)에서 실행한다.
+ */
+public class LoadTestOptions {
+    static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    final int members;
+    final int posts;
+    final long likes;
+    final long comments;
+    final long maxCommentsPerPost;
+    final double zipfExponent;
+    final boolean seed;
+
+    final String datasourceUrl;
+    final String datasourceUsername;
+    final String datasourcePassword;
+    final String ddlAuto;
+    final String profiles;
+
+    final int users;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int thinkTimeMs;
+    final Path outputDir;
+
+    private LoadTestOptions(Map<String, String> args) {
+        double scale = Double.parseDouble(args.getOrDefault("scale", "1"));
+        members = (int) Math.max(1, Long.parseLong(args.getOrDefault("members", "100000")) * scale);
+        posts = (int) Math.max(1, Long.parseLong(args.getOrDefault("posts", "1000000")) * scale);
+        likes = (long) (Long.parseLong(args.getOrDefault("likes", "10000000")) * scale);
+        comments = (long) (Long.parseLong(args.getOrDefault("comments", "5000000")) * scale);
+        // 댓글 목록은 페이지네이션이 없어 최상위 게시글에 수십만 건이 몰리면 응답 하나가 수십 MB가 된다
+        maxCommentsPerPost = Long.parseLong(args.getOrDefault("max-comments-per-post", "2000"));
+        zipfExponent = Double.parseDouble(args.getOrDefault("zipf-exponent", "1.0"));
+        seed = Boolean.parseBoolean(args.getOrDefault("seed", "true"));
+
+        datasourceUrl = args.getOrDefault("datasource-url", H2_URL);
+        boolean h2 = isH2();
+        datasourceUsername = args.getOrDefault("datasource-username", h2 ? "sa" : "root");
+        datasourcePassword = args.getOrDefault("datasource-password", "");
+        // 외부 MySQL은 기존 스키마를 지우지 않도록 기본값 none
+        ddlAuto = args.getOrDefault("ddl-auto", h2 ? "create" : "none");
+        // 예: virtual-threads (가상 스레드 모드, Java 21 툴체인 필요)
+        profiles = args.getOrDefault("profiles", "");
+
+        users = Integer.parseInt(args.getOrDefault("users", "64"));
+        warmupSeconds = Integer.parseInt(args.getOrDefault("warmup-seconds", "30"));
+        durationSeconds = Integer.parseInt(args.getOrDefault("duration-seconds", "120"));
+        thinkTimeMs = Integer.parseInt(args.getOrDefault("think-time-ms", "0"));
+        outputDir = Path.of(args.getOrDefault("output-dir", "build/loadtest"));
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    boolean isH2() {
+        return datasourceUrl.startsWith("jdbc:h2:");
+    }
+
+    String driverClassName() {
+        return isH2() ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver";
+    }
+}
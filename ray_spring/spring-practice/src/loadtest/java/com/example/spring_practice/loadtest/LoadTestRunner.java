@@ -0,0 +1,69 @@
+package com.example.spring_practice.loadtest;
+
+import com.example.spring_practice.SpringPracticeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest).
+ * 1) 애플리케이션을 임의 포트로 띄우고 (기본 H2 MySQL 모드, --datasource-url로 로컬 MySQL)
+ * 2) 데이터를 대량 입력한 뒤 (--seed=false면 기존 데이터 재사용)
+ * 3) 닫힌 루프 부하를 걸어 엔드포인트별 처리량과 지연 백분위를 출력한다.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path uploadDir = Files.createTempDirectory("loadtest-uploads");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringPracticeApplication.class)
+                .run(applicationArgs(options, uploadDir))) {
+            DatasetSeeder seeder = new DatasetSeeder(context.getBean(JdbcTemplate.class), options);
+            long seedStartedAt = System.nanoTime();
+            Dataset dataset = options.seed ? seeder.seed() : seeder.load();
+            System.out.printf("[seed] 회원 %,d명, 게시글 %,d개 (%.1f초)%n",
+                    dataset.memberCount(), dataset.postCount(), (System.nanoTime() - seedStartedAt) / 1e9);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            EndpointStats stats = new EndpointStats();
+            WorkloadDriver driver = new WorkloadDriver(
+                    URI.create("http://localhost:" + port), dataset, options, stats, context.getBean(ObjectMapper.class));
+            double elapsedSeconds = driver.run();
+            // spring.threads.virtual.enabled는 Java 21 이상에서만 적용된다
+            boolean virtualThreads = Runtime.version().feature() >= 21
+                    && context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+            String runLabel = String.format("Java %d, 요청 스레드: %s, 사용자 %d명, 측정 %d초",
+                    Runtime.version().feature(), virtualThreads ? "가상 스레드" : "플랫폼 스레드 풀",
+                    options.users, options.durationSeconds);
+            System.out.println("[load] " + runLabel);
+            stats.report(elapsedSeconds, options.outputDir, runLabel);
+        }
+    }
+
+    // 명령행 인자로 넘겨 application.yml보다 우선하게 한다
+    private static String[] applicationArgs(LoadTestOptions options, Path uploadDir) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + options.datasourceUrl,
+                "--spring.datasource.driver-class-name=" + options.driverClassName(),
+                "--spring.datasource.username=" + options.datasourceUsername,
+                "--spring.datasource.password=" + options.datasourcePassword,
+                "--spring.jpa.hibernate.ddl-auto=" + options.ddlAuto,
+                "--file.upload.path=" + uploadDir,
+                "--decorator.datasource.p6spy.enable-logging=false",
+                "--access-log.path=" + options.outputDir.resolve("access-log")));
+        if (!options.profiles.isBlank()) {
+            args.add("--spring.profiles.active=" + options.profiles);
+        }
+        return args.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.spring_practice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 닫힌 루프(closed-loop) 부하. 가상 사용자마다 스레드 하나가 로그인 후 응답을 받을 때마다 다음 요청을 보낸다.
+ * 요청 비율: 피드 35, 피드 다음 페이지 10, 상세 25, 댓글 목록 15, 좋아요 토글 10, 로그인 5.
+ * 상세/댓글/좋아요 대상 게시글은 시드와 같은 Zipf 인기도로 고른다.
+ */
+public class WorkloadDriver {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final URI baseUri;
+    private final Dataset dataset;
+    private final LoadTestOptions options;
+    private final EndpointStats stats;
+    private final ObjectMapper objectMapper;
+    private volatile boolean running = true;
+
+    public WorkloadDriver(URI baseUri, Dataset dataset, LoadTestOptions options, EndpointStats stats, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.options = options;
+        this.stats = stats;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 워밍업 후 기록을 초기화하고 측정 구간을 실행한다. 측정 구간 길이(초)를 반환한다.
+     */
+    public double run() throws InterruptedException {
+        List<Thread> users = new ArrayList<>(options.users);
+        for (int i = 0; i < options.users; i++) {
+            long seed = i;
+            Thread user = new Thread(() -> virtualUser(new Random(seed)), "vu-" + i);
+            user.setDaemon(true);
+            user.start();
+            users.add(user);
+        }
+
+        System.out.printf("[load] 가상 사용자 %d명, 워밍업 %d초%n", options.users, options.warmupSeconds);
+        Thread.sleep(options.warmupSeconds * 1000L);
+        stats.reset();
+        long startedAt = System.nanoTime();
+        System.out.printf("[load] 측정 %d초%n", options.durationSeconds);
+        Thread.sleep(options.durationSeconds * 1000L);
+        running = false;
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        for (Thread user : users) {
+            user.join(REQUEST_TIMEOUT.toMillis());
+        }
+        return elapsedSeconds;
+    }
+
+    private void virtualUser(Random random) {
+        String token = login(random);
+        String nextCursor = null;
+        while (running) {
+            int dice = random.nextInt(100);
+            if (dice < 35) {
+                nextCursor = feed(null, token);
+            } else if (dice < 45) {
+                nextCursor = feed(nextCursor, token);
+            } else if (dice < 70) {
+                send("GET /posts/{id}", get("/posts/" + popularPostId(random), token));
+            } else if (dice < 85) {
+                send("GET /posts/{id}/comments", get("/posts/" + popularPostId(random) + "/comments", token));
+            } else if (dice < 95) {
+                toggleLike(popularPostId(random), token);
+            } else {
+                String renewed = login(random);
+                token = renewed != null ? renewed : token;
+            }
+            thinkTime();
+        }
+    }
+
+    private String login(Random random) {
+        int memberIndex = random.nextInt(dataset.memberCount());
+        String body = "{\"email\":\"" + Dataset.email(memberIndex) + "\",\"password\":\"" + Dataset.PASSWORD + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = send("POST /auth/login", request);
+        return response != null && response.statusCode() == 200 ? field(response, "accessToken") : null;
+    }
+
+    // 다음 페이지 커서를 반환 (마지막 페이지면 null → 다음 번엔 첫 페이지)
+    private String feed(String cursor, String token) {
+        String path = "/posts?size=10";
+        String endpoint = "GET /posts";
+        if (cursor != null) {
+            path += "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+            endpoint = "GET /posts?cursor";
+        }
+        HttpResponse<String> response = send(endpoint, get(path, token));
+        return response != null && response.statusCode() == 200 ? field(response, "nextCursor") : null;
+    }
+
+    // 이미 눌렀으면(409) 취소
+    private void toggleLike(long postId, String token) {
+        HttpResponse<String> response = send("POST /posts/{id}/like", "/posts/" + postId + "/like", "POST", token, 409);
+        if (response != null && response.statusCode() == 409) {
+            send("DELETE /posts/{id}/like", "/posts/" + postId + "/like", "DELETE", token, -1);
+        }
+    }
+
+    private long popularPostId(Random random) {
+        return dataset.postId(dataset.postIndexForRank(dataset.postPopularity().sample(random)));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return authorized(HttpRequest.newBuilder(baseUri.resolve(path)), token).GET().build();
+    }
+
+    private HttpResponse<String> send(String endpoint, String path, String method, String token, int expectedStatus) {
+        HttpRequest request = authorized(HttpRequest.newBuilder(baseUri.resolve(path)), token)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return send(endpoint, request, expectedStatus);
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) {
+        return send(endpoint, request, -1);
+    }
+
+    // 2xx와 예상한 상태 코드(좋아요 중복 409 등)는 성공으로 센다
+    private HttpResponse<String> send(String endpoint, HttpRequest request, int expectedStatus) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            stats.record(endpoint, System.nanoTime() - startedAt, (status >= 200 && status < 300) || status == expectedStatus);
+            return response;
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - startedAt, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder, String token) {
+        builder.timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    // ApiResponse.data 아래 필드
+    private String field(HttpResponse<String> response, String name) {
+        try {
+            JsonNode value = objectMapper.readTree(response.body()).path("data").path(name);
+            return value.isTextual() ? value.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void thinkTime() {
+        if (options.thinkTimeMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(options.thinkTimeMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.spring_practice.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 순위 0..n-1에 대한 Zipf 분포 (순위 k의 가중치 ∝ 1 / (k+1)^exponent).
+ * 인기 게시글에 좋아요/댓글/조회가 몰리는 분포를 만들 때 쓴다. 샘플링은 누적 분포 이진 탐색.
+ */
+public class ZipfDistribution {
+    private final double[] cdf;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+    }
+
+    public int size() {
+        return cdf.length;
+    }
+
+    public double probability(int rank) {
+        return rank == 0 ? cdf[0] : cdf[rank] - cdf[rank - 1];
+    }
+
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cdf.length - 1);
+    }
+}
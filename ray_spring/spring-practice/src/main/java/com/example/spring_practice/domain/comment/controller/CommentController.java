@@ -4,19 +4,23 @@ import com.example.spring_practice.domain.comment.dto.CommentIdResponseDto;
 import com.example.spring_practice.domain.comment.dto.CommentRequestDto;
 import com.example.spring_practice.domain.comment.dto.CommentResponseDto;
 import com.example.spring_practice.domain.comment.entity.Comment;
+import com.example.spring_practice.domain.comment.service.CommentExportService;
 import com.example.spring_practice.domain.comment.service.CommentService;
 import com.example.spring_practice.domain.member.service.AuthService;
 import com.example.spring_practice.domain.member.service.MemberService;
 import com.example.spring_practice.global.response.ApiResponse;
+import com.example.spring_practice.global.response.ApiResponseStreamer;
 import com.example.spring_practice.global.response.Message;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -26,6 +30,8 @@ import java.util.List;
 public class CommentController {
     private final AuthService authService;
     private final CommentService commentService;
+    private final CommentExportService commentExportService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     @Operation(summary = "댓글 등록", description = "특정 게시글에 댓글을 등록합니다.")
     @Parameter(name = "postId", description = "게시글ID", example = "1", required = true)
@@ -34,7 +40,7 @@ public class CommentController {
             @PathVariable Long postId,
             @Valid @RequestBody CommentRequestDto commentRequestDto) {
 
-        Long currentMemberId = authService.getCurrentMember().getMemberId();
+        Long currentMemberId = authService.getCurrentMemberId();
         CommentResponseDto response = commentService.createComment(postId, commentRequestDto, currentMemberId);
 
         return ResponseEntity
@@ -47,7 +53,7 @@ public class CommentController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<CommentResponseDto>>> getComments(@PathVariable Long postId) {
 
-        Long currentMemberId = authService.getCurrentMember().getMemberId();
+        Long currentMemberId = authService.getCurrentMemberId();
         List<CommentResponseDto> response = commentService.getComments(postId, currentMemberId);
 
         return ResponseEntity
@@ -55,6 +61,20 @@ public class CommentController {
                 .body(ApiResponse.success(Message.POST_COMMENT_SUCCESS, response));
     }
 
+    // 댓글 수가 많은 게시글용. 응답 형식은 댓글 불러오기와 같고, 목록을 메모리에 모으지 않고 배치로 읽어 한 건씩 내보낸다
+    @Operation(summary = "댓글 스트리밍", description = "특정 게시글의 댓글 전체를 스트리밍으로 불러옵니다.")
+    @Parameter(name = "postId", description = "게시글ID", example = "1", required = true)
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable Long postId) {
+
+        Long currentMemberId = authService.getCurrentMemberId();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(apiResponseStreamer.<CommentResponseDto>list(Message.POST_COMMENT_SUCCESS,
+                        sink -> commentExportService.exportComments(postId, currentMemberId, sink)));
+    }
+
 
 
     @Operation(summary = "댓글 수정", description = "특정 댓글을 수정합니다.")
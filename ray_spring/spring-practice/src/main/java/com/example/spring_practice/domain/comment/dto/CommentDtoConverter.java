@@ -20,6 +20,16 @@ public class CommentDtoConverter {
                 comment.getMember().getMemberId().equals(currentMemberId));
     }
 
+    static public CommentResponseDto toCommentResponseDto(CommentQueryDto comment, String imgUrl, Long currentMemberId){
+        return new CommentResponseDto(
+                comment.getCommentId(),
+                comment.getAuthor(),
+                imgUrl,
+                comment.getCreatedAt(),
+                comment.getContent(),
+                comment.getAuthorId().equals(currentMemberId));
+    }
+
     static public CommentIdResponseDto toCommentIdResponseDto(Long commentId){
         return new CommentIdResponseDto(commentId);
     }
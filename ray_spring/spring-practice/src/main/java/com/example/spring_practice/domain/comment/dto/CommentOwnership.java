@@ -0,0 +1,15 @@
+package com.example.spring_practice.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 권한 확인용 읽기 모델. 엔티티 대신 작성자/게시글 ID만 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentOwnership {
+    private Long commentId;
+    private Long postId;
+    private Long authorId;
+}
@@ -0,0 +1,20 @@
+package com.example.spring_practice.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스트리밍 조회 전용 읽기 모델. 엔티티를 영속성 컨텍스트에 올리지 않으므로 댓글 수가 많아도 메모리가 늘지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentQueryDto {
+    private Long commentId;
+    private Long authorId;
+    private String author;
+    private String authorProfileImgUrl;
+    private LocalDateTime createdAt;
+    private String content;
+}
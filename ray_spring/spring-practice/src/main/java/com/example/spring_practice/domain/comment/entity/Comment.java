@@ -3,6 +3,7 @@ package com.example.spring_practice.domain.comment.entity;
 import com.example.spring_practice.domain.comment.dto.CommentRequestDto;
 import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.post.entity.Post;
+import com.example.spring_practice.global.id.Tsid;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
 import jakarta.persistence.*;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long commentId;
 
     private String content;
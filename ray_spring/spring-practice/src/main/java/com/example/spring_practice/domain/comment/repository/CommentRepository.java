@@ -1,9 +1,47 @@
 package com.example.spring_practice.domain.comment.repository;
 
+import com.example.spring_practice.domain.comment.dto.CommentOwnership;
+import com.example.spring_practice.domain.comment.dto.CommentQueryDto;
 import com.example.spring_practice.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 권한 확인용 (엔티티 대신 ID만 조회)
+    @Query("SELECT new com.example.spring_practice.domain.comment.dto.CommentOwnership(" +
+            "c.commentId, c.post.postId, c.member.memberId) " +
+            "FROM Comment c WHERE c.commentId = :commentId")
+    Optional<CommentOwnership> findOwnership(@Param("commentId") Long commentId);
+
+    // 댓글 목록은 작성자를 함께 조회해 댓글 수만큼 회원 조회가 늘지 않게 한다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.post.postId = :postId ORDER BY c.commentId")
+    List<Comment> findAllWithMemberByPostId(@Param("postId") Long postId);
+
+    // 스트리밍 응답용. 필요한 컬럼만 DTO로, commentId 기준 seek로 배치 단위 조회
+    @Query("SELECT new com.example.spring_practice.domain.comment.dto.CommentQueryDto(" +
+            "c.commentId, m.memberId, m.nickname, m.profileImgUrl, c.createdAt, c.content) " +
+            "FROM Comment c JOIN c.member m WHERE c.post.postId = :postId AND c.commentId > :lastCommentId ORDER BY c.commentId")
+    List<CommentQueryDto> findCommentsAfter(@Param("postId") Long postId,
+                                            @Param("lastCommentId") Long lastCommentId,
+                                            Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.content = :content WHERE c.commentId = :commentId AND c.post.postId = :postId")
+    int updateContent(@Param("postId") Long postId, @Param("commentId") Long commentId, @Param("content") String content);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.commentId = :commentId AND c.post.postId = :postId")
+    int deleteByPostIdAndCommentId(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.post.postId = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
 }
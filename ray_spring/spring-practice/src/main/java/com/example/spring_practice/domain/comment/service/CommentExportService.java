@@ -0,0 +1,52 @@
+package com.example.spring_practice.domain.comment.service;
+
+import com.example.spring_practice.domain.comment.dto.CommentDtoConverter;
+import com.example.spring_practice.domain.comment.dto.CommentQueryDto;
+import com.example.spring_practice.domain.comment.dto.CommentResponseDto;
+import com.example.spring_practice.domain.comment.repository.CommentRepository;
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import com.example.spring_practice.domain.shared.ImageService;
+import com.example.spring_practice.domain.shared.ImageSize;
+import com.example.spring_practice.global.response.CustomException;
+import com.example.spring_practice.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 게시글의 댓글 전체 내보내기 (댓글 스트리밍 응답). commentId keyset으로 BATCH_SIZE씩 읽는다.
+ * 쿼리는 게시글 존재 확인 1 + 배치마다 1. 트랜잭션 없이 실행된다 (ApiResponseStreamer 참고).
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentExportService {
+    static final int BATCH_SIZE = 500;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final ImageService imageService;
+
+    public void exportComments(Long postId, Long currentMemberId, Consumer<CommentResponseDto> sink) {
+        // 응답을 쓰기 시작하기 전에 확인해야 404로 응답할 수 있다
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+        Pageable limit = PageRequest.of(0, BATCH_SIZE);
+        // 댓글 ID(TSID)는 양수
+        List<CommentQueryDto> batch = commentRepository.findCommentsAfter(postId, 0L, limit);
+        while (!batch.isEmpty()) {
+            for (CommentQueryDto c : batch) {
+                sink.accept(CommentDtoConverter.toCommentResponseDto(
+                        c, imageService.getFullImgUrl(c.getAuthorProfileImgUrl(), ImageSize.AVATAR), currentMemberId));
+            }
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+            batch = commentRepository.findCommentsAfter(postId, batch.get(batch.size() - 1).getCommentId(), limit);
+        }
+    }
+}
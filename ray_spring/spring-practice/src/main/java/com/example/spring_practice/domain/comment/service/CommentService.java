@@ -9,11 +9,16 @@ import com.example.spring_practice.domain.comment.repository.CommentRepository;
 import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.member.repository.MemberRepository;
 import com.example.spring_practice.domain.post.entity.Post;
+import com.example.spring_practice.domain.post.event.PostChangedEvent;
+import com.example.spring_practice.domain.post.repository.PostCounterRepository;
 import com.example.spring_practice.domain.post.repository.PostRepository;
 import com.example.spring_practice.domain.shared.ImageService;
+import com.example.spring_practice.domain.shared.ImageSize;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,13 +27,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostCounterRepository postCounterRepository;
     private final MemberRepository memberRepository;
     private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponseDto createComment(Long postId, CommentRequestDto commentRequestDto, Long currentMemberId) {
@@ -40,39 +49,37 @@ public class CommentService {
 
         Comment comment = new Comment(commentRequestDto, member, post);
         Comment savedComment = commentRepository.save(comment);
+        postCounterRepository.increaseCommentCount(postId);
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
 
-        return CommentDtoConverter.toCommentResponseDto(savedComment, imageService.getFullImgUrl(member.getProfileImgUrl()), currentMemberId);
+        return CommentDtoConverter.toCommentResponseDto(savedComment, imageService.getFullImgUrl(member.getProfileImgUrl(), ImageSize.AVATAR), currentMemberId);
     }
 
+    // 게시글-댓글 관계 확인을 WHERE 조건에 넣어 벌크 UPDATE 한 번으로 처리
     @Transactional
     public CommentIdResponseDto updateComment(Long postId, Long commentId, CommentRequestDto dto) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
-        if (!comment.getPost().getPostId().equals(postId)) {
+        if (commentRepository.updateContent(postId, commentId, dto.getContent()) == 0) {
             throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
         }
 
-        comment.updateContent(dto.getContent());
-
-        return CommentDtoConverter.toCommentIdResponseDto(comment.getCommentId());
+        return CommentDtoConverter.toCommentIdResponseDto(commentId);
     }
 
     @Transactional
     public void deleteComment(Long postId, Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
-
-        if (!comment.getPost().getPostId().equals(postId)) {
+        if (commentRepository.deleteByPostIdAndCommentId(postId, commentId) == 0) {
             throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
         }
-        commentRepository.delete(comment);
+        postCounterRepository.decreaseCommentCount(postId);
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
     }
 
     public List<CommentResponseDto> getComments(Long postId, Long currentMemberId) {
-        Post post = postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        // 게시글을 먼저 영속성 컨텍스트에 올려 두면 댓글의 게시글 참조는 추가 조회 없이 채워진다
+        postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
         List<CommentResponseDto> commentList = new ArrayList<>();
-        for (Comment c : post.getCommentList()){
-            commentList.add(CommentDtoConverter.toCommentResponseDto(c, imageService.getFullImgUrl(c.getMember().getProfileImgUrl()), currentMemberId));
+        for (Comment c : commentRepository.findAllWithMemberByPostId(postId)){
+            commentList.add(CommentDtoConverter.toCommentResponseDto(c, imageService.getFullImgUrl(c.getMember().getProfileImgUrl(), ImageSize.AVATAR), currentMemberId));
         }
         return commentList;
     }
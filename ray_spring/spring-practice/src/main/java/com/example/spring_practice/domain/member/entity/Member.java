@@ -3,10 +3,15 @@ package com.example.spring_practice.domain.member.entity;
 import com.example.spring_practice.domain.comment.entity.Comment;
 import com.example.spring_practice.domain.post.entity.Post;
 import com.example.spring_practice.domain.post.entity.PostLike;
+import com.example.spring_practice.global.id.Tsid;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,11 +21,26 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(MemberIndexListener.class)
+// 자주 읽고 드물게 바뀌므로 2차 캐시에 둔다. 닉네임/이미지/비밀번호 변경은 READ_WRITE 전략으로 커밋 시 캐시에 반영
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Member.CACHE_REGION)
+@NaturalIdCache(region = Member.NATURAL_ID_CACHE_REGION)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Member.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = Member.NICKNAME_UNIQUE_CONSTRAINT, columnNames = "nickname")
+})
 public class Member {
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_member_email";
+    public static final String NICKNAME_UNIQUE_CONSTRAINT = "uk_member_nickname";
+    public static final String CACHE_REGION = "member";
+    public static final String NATURAL_ID_CACHE_REGION = "member-natural-id";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long memberId;
 
+    // 로그인/인증 조회 키 (email → memberId를 자연 키 캐시로)
+    @NaturalId
     private String email;
 
     private String password;
@@ -0,0 +1,24 @@
+package com.example.spring_practice.domain.member.entity;
+
+import com.example.spring_practice.domain.member.service.MemberDuplicateIndex;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 저장/수정 시 이메일·닉네임을 중복 확인 인덱스에 추가한다.
+ * 저장 전에 추가하므로 롤백되면 불필요한 양성만 남고, "없음"을 잘못 답하는 경우는 생기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberIndexListener {
+    private final MemberDuplicateIndex memberDuplicateIndex;
+
+    @PrePersist
+    @PreUpdate
+    public void index(Member member) {
+        memberDuplicateIndex.addEmail(member.getEmail());
+        memberDuplicateIndex.addNickname(member.getNickname());
+    }
+}
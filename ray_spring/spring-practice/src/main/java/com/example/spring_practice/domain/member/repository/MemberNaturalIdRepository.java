@@ -0,0 +1,12 @@
+package com.example.spring_practice.domain.member.repository;
+
+import com.example.spring_practice.domain.member.entity.Member;
+
+import java.util.Optional;
+
+/**
+ * 이메일(자연 키) 조회. 파생 쿼리(JPQL) 대신 자연 키 로딩을 써서 2차 캐시(자연 키 → ID → 엔티티)를 탄다.
+ */
+public interface MemberNaturalIdRepository {
+    Optional<Member> findByEmail(String email);
+}
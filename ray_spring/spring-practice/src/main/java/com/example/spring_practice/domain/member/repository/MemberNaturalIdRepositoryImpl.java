@@ -0,0 +1,23 @@
+package com.example.spring_practice.domain.member.repository;
+
+import com.example.spring_practice.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    // 트랜잭션 밖에서 부르면 공유 EntityManager가 호출마다 닫히므로 Session을 직접 쓰는 동안 트랜잭션을 유지한다
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Member> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
+    }
+}
@@ -1,15 +1,27 @@
 package com.example.spring_practice.domain.member.repository;
 
 import com.example.spring_practice.domain.member.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+// findByEmail은 MemberNaturalIdRepository (자연 키 캐시)
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
-    public Optional<Member> findByEmail(String email);
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberNaturalIdRepository {
+    // 쿼리 캐시 대상. member 테이블이 바뀌면 Hibernate가 결과를 무효화한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT m.memberId FROM Member m WHERE m.email = :email")
+    public Optional<Long> findMemberIdByEmail(@Param("email") String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     public boolean existsByEmail(String email);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     public boolean existsByNickname(String nickname);
 
     public Optional<Member> findByNickname(String nickname);
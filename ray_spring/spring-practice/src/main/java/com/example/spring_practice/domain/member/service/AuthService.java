@@ -7,6 +7,9 @@ import com.example.spring_practice.domain.shared.ImageService;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
 import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberDetails;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,9 +20,11 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
@@ -27,28 +32,69 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
 
+    // BCrypt 검증(해시 풀 대기 포함)은 수 초까지 걸리므로 트랜잭션(커넥션) 없이 실행한다.
+    // 회원 조회와 재해시 저장(CustomMemberDetailsService.updatePassword)은 각자 짧은 트랜잭션으로 실행된다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public JwtTokenResponseDto login(LoginRequestDto loginRequestDto) {
         try {
             Authentication authRequest =
                     new UsernamePasswordAuthenticationToken(loginRequestDto.getEmail(), loginRequestDto.getPassword());
+            // BCrypt 검증 자체는 PooledPasswordEncoder가 해시 전용 풀에서 실행
             Authentication authResult = authenticationManager.authenticate(authRequest);
-            String token = jwtUtil.generateToken(authResult.getName());
+            MemberDetails memberDetails = (MemberDetails) authResult.getPrincipal();
+            String role = memberDetails.getAuthorities().iterator().next().getAuthority();
+            String token = jwtUtil.generateToken(memberDetails.getMemberId(), memberDetails.getUsername(), role);
             return AuthDtoConverter.toJwtTokenResponseDto(token);
         } catch (Exception e) {
+            // 해시 풀 포화는 로그인 실패가 아닌 503으로 응답
+            if (isAuthBusy(e)) {
+                throw new CustomException(ErrorCode.AUTH_BUSY);
+            }
             throw new CustomException(ErrorCode.LOGIN_FAILED);
         }
 
     }
 
-    public Member getCurrentMember() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+    // 인증 제공자가 감싸서 던진 경우(InternalAuthenticationServiceException 등)도 원인까지 확인
+    private static boolean isAuthBusy(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CustomException customException && customException.getErrorCode() == ErrorCode.AUTH_BUSY) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        if (email == null) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED);
+    // 토큰에 담긴 memberId를 그대로 반환 (쿼리 없음)
+    public Long getCurrentMemberId() {
+        Authentication authentication = getAuthentication();
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal && principal.getMemberId() != null) {
+            return principal.getMemberId();
+        }
+
+        // memberId 클레임이 없는 이전 토큰 등은 이메일로 id만 조회
+        return memberRepository.findMemberIdByEmail(authentication.getName())
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+    }
+
+    // 회원 정보 자체가 필요한 경우에만 사용
+    public Member getCurrentMember() {
+        Authentication authentication = getAuthentication();
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal && principal.getMemberId() != null) {
+            return memberRepository.findById(principal.getMemberId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
         }
 
-        return memberRepository.findByEmail(email)
+        return memberRepository.findByEmail(authentication.getName())
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return authentication;
+    }
+
 }
@@ -4,24 +4,64 @@ import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.member.repository.MemberRepository;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
+import com.example.spring_practice.global.security.MemberDetails;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 @Service
-public class CustomMemberDetailsService implements UserDetailsService {
+public class CustomMemberDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final MemberRepository memberRepository;
+    private final Set<String> adminEmails;
+
+    public CustomMemberDetailsService(MemberRepository memberRepository,
+                                      @Value("${security.admin-emails:}") List<String> adminEmails) {
+        this.memberRepository = memberRepository;
+        this.adminEmails = adminEmails.stream()
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // 로그인은 트랜잭션 없이 진행되므로 조회만 짧은 읽기 트랜잭션으로 끝낸다 (BCrypt 검증 동안 커넥션을 잡지 않음).
+    // 없는 회원은 UsernameNotFoundException으로 알려야 DaoAuthenticationProvider가 타이밍 공격 방지용 해시를 돌리고,
+    // 다른 예외처럼 InternalAuthenticationServiceException으로 감싸지 않는다
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(username).orElseThrow(() -> new CustomException(ErrorCode.UNAUTHORIZED));
-        return User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword())
-                .authorities("ROLE_USER")
-                .build();
+        Member member = memberRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException(username));
+        return new MemberDetails(
+                member.getMemberId(),
+                member.getEmail(),
+                member.getPassword(),
+                AuthorityUtils.createAuthorityList(adminEmails.contains(member.getEmail())
+                        ? MemberPrincipal.ADMIN_ROLE
+                        : MemberPrincipal.DEFAULT_ROLE)
+        );
+    }
+
+    // 로그인 성공 시 저장된 해시의 cost가 설정값보다 낮으면 새 cost로 다시 해시해 저장 (해시는 호출 전에 트랜잭션 밖에서 계산됨)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        member.editPassword(newPassword);
+        return new MemberDetails(
+                member.getMemberId(),
+                member.getEmail(),
+                newPassword,
+                user.getAuthorities()
+        );
     }
 }
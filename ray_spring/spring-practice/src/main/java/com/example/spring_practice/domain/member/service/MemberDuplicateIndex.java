@@ -0,0 +1,124 @@
+package com.example.spring_practice.domain.member.service;
+
+import com.example.spring_practice.global.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 이메일/닉네임 중복 확인용 메모리 인덱스 (Bloom filter).
+ * 시작 시 member 테이블로 채우고, 이후 이 인스턴스에서 저장되는 회원은 MemberIndexListener가 추가한다.
+ * 다른 인스턴스에서 생긴 값은 재시작 전까지 반영되지 않으므로, 이 인스턴스가 member 테이블의 유일한 쓰기 주체일 때
+ * (member.duplicate-index.single-writer=true)만 인덱스가 완전하다고 보고 "확실히 없음"을 DB 없이 바로 답한다.
+ * 그 밖에는 항상 exists 쿼리로 넘긴다. 어느 경우든 최종 중복 방지는 DB 유니크 제약이 맡는다.
+ */
+@Slf4j
+@Component
+public class MemberDuplicateIndex {
+    private static final String LOAD_SQL = "SELECT email, nickname FROM member";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final boolean singleWriter;
+    private final Counter definiteMissCounter;
+    private final Counter possibleHitCounter;
+    private final Counter incompleteCounter;
+
+    private volatile BloomFilter emails;
+    private volatile BloomFilter nicknames;
+    private volatile boolean ready;
+
+    public MemberDuplicateIndex(JdbcTemplate jdbcTemplate,
+                                @Value("${member.duplicate-index.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${member.duplicate-index.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${member.duplicate-index.single-writer:false}") boolean singleWriter,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.singleWriter = singleWriter;
+        this.definiteMissCounter = Counter.builder("member.duplicate.check")
+                .tag("result", "definite_miss")
+                .description("DB 조회 없이 응답한 중복 확인 수")
+                .register(meterRegistry);
+        this.possibleHitCounter = Counter.builder("member.duplicate.check")
+                .tag("result", "possible_hit")
+                .description("DB 조회로 넘어간 중복 확인 수")
+                .register(meterRegistry);
+        this.incompleteCounter = Counter.builder("member.duplicate.check")
+                .tag("result", "index_incomplete")
+                .description("인덱스가 완전하지 않아 필터 확인 없이 DB로 넘긴 중복 확인 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        Long memberCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class);
+        // 운영 중 가입분까지 여유를 두고 크기를 잡는다
+        long capacity = Math.max(expectedInsertions, (memberCount == null ? 0 : memberCount) * 2);
+        // 적재 중에 들어오는 가입분도 빠지지 않도록 필터를 먼저 걸어두고, 적재가 끝난 뒤에 사용 시작
+        this.emails = new BloomFilter(capacity, falsePositiveRate);
+        this.nicknames = new BloomFilter(capacity, falsePositiveRate);
+
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            addEmail(rs.getString("email"));
+            addNickname(rs.getString("nickname"));
+        });
+
+        this.ready = true;
+        log.info("Member duplicate index built: {} members, capacity {}, single writer {}", memberCount, capacity, singleWriter);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(emails, email);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        return mightContain(nicknames, nickname);
+    }
+
+    public void addEmail(String email) {
+        putIfPresent(emails, email);
+    }
+
+    public void addNickname(String nickname) {
+        putIfPresent(nicknames, nickname);
+    }
+
+    // 적재가 끝났고 다른 인스턴스의 가입이 빠질 수 없을 때만 "없음"을 믿는다
+    public boolean isComplete() {
+        return ready && singleWriter;
+    }
+
+    private boolean mightContain(BloomFilter filter, String value) {
+        if (!isComplete()) {
+            incompleteCounter.increment();
+            return true;
+        }
+        if (value == null || filter.mightContain(normalize(value))) {
+            possibleHitCounter.increment();
+            return true;
+        }
+        definiteMissCounter.increment();
+        return false;
+    }
+
+    private static void putIfPresent(BloomFilter filter, String value) {
+        if (filter != null && value != null) {
+            filter.put(normalize(value));
+        }
+    }
+
+    // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자로 맞춘다 (양성만 늘어나므로 안전)
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
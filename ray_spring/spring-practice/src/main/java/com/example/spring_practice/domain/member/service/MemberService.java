@@ -4,41 +4,61 @@ import com.example.spring_practice.domain.member.dto.*;
 import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.member.repository.MemberRepository;
 import com.example.spring_practice.domain.shared.ImageService;
+import com.example.spring_practice.domain.shared.ImageTransactionTemplate;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
     private final MemberRepository memberRepository;
     private final ImageService imageService;
+    private final ImageTransactionTemplate imageTransactionTemplate;
     private final AuthService authService;
     private final PasswordEncoder passwordEncoder;
+    private final MemberDuplicateIndex memberDuplicateIndex;
 
-    @Transactional
+    // 중복 확인, BCrypt 해시, 이미지 저장은 트랜잭션 밖에서 끝내고 INSERT만 트랜잭션으로 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void signUp(SignUpRequestDto signUpRequestDto) {
-        if(emailDuplicateCheck(signUpRequestDto.getEmail()).isDuplicated()){
+        // 인덱스상 "있을 수도 있음"인 경우에만 미리 조회하고, 나머지는 유니크 제약에 맡기고 바로 저장
+        if(isEmailTaken(signUpRequestDto.getEmail())){
             throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
         }
-        if(nicknameDuplicateCheck(signUpRequestDto.getNickname()).isDuplicated()){
+        if(isNicknameTaken(signUpRequestDto.getNickname())){
             throw new CustomException(ErrorCode.DUPLICATE_NICKNAME);
         }
-        Member member = new Member(signUpRequestDto.getEmail(), passwordEncoder.encode(signUpRequestDto.getPassword()), signUpRequestDto.getNickname());
-        if(signUpRequestDto.getProfileImage()!=null){
-            member.updateImageUrl(imageService.saveImg(signUpRequestDto.getProfileImage()));
-        }
-        memberRepository.save(member);
+        String encodedPassword = passwordEncoder.encode(signUpRequestDto.getPassword());
+        imageTransactionTemplate.execute(signUpRequestDto.getProfileImage(), imgUrl -> {
+            Member member = new Member(signUpRequestDto.getEmail(), encodedPassword, signUpRequestDto.getNickname());
+            if(imgUrl != null){
+                member.updateImageUrl(imgUrl);
+            }
+            try {
+                return memberRepository.saveAndFlush(member);
+            } catch (DataIntegrityViolationException e) {
+                throw toDuplicateException(e);
+            }
+        });
     }
 
     public ProfileResponseDto getMyProfile() {
 
-        return MemberDtoConverter.toProfileResponseDto(authService.getCurrentMember(), imageService.getFullImgUrl(authService.getCurrentMember().getProfileImgUrl()));
+        Member currentMember = authService.getCurrentMember();
+        return MemberDtoConverter.toProfileResponseDto(currentMember, imageService.getFullImgUrl(currentMember.getProfileImgUrl()));
     }
 
     @Transactional
@@ -46,21 +66,58 @@ public class MemberService {
         authService.getCurrentMember().editPassword(passwordEncoder.encode(password.getPassword()));
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void editProfile(EditProfileRequestDto editProfileRequestDto) {
-        if(editProfileRequestDto.getProfileImage() != null){
-            authService.getCurrentMember().updateImageUrl(imageService.saveImg(editProfileRequestDto.getProfileImage()));
-        }
-        if(editProfileRequestDto.getNickname()!= null){
-            authService.getCurrentMember().updateNickname(editProfileRequestDto.getNickname());
-        }
+        imageTransactionTemplate.execute(editProfileRequestDto.getProfileImage(), imgUrl -> {
+            Member currentMember = authService.getCurrentMember();
+            if(imgUrl != null){
+                imageTransactionTemplate.releaseAfterCommit(currentMember.getProfileImgUrl());
+                currentMember.updateImageUrl(imgUrl);
+            }
+            if(editProfileRequestDto.getNickname()!= null && !editProfileRequestDto.getNickname().equals(currentMember.getNickname())){
+                if(isNicknameTaken(editProfileRequestDto.getNickname())){
+                    throw new CustomException(ErrorCode.DUPLICATE_NICKNAME);
+                }
+                currentMember.updateNickname(editProfileRequestDto.getNickname());
+                try {
+                    memberRepository.flush();
+                } catch (DataIntegrityViolationException e) {
+                    throw toDuplicateException(e);
+                }
+            }
+            return currentMember;
+        });
     }
 
     public DuplicateCheckResponseDto emailDuplicateCheck(String email) {
-        return MemberDtoConverter.toDuplicateCheckResponseDto(memberRepository.existsByEmail(email));
+        return MemberDtoConverter.toDuplicateCheckResponseDto(isEmailTaken(email));
     }
 
     public DuplicateCheckResponseDto nicknameDuplicateCheck(String nickname) {
-        return MemberDtoConverter.toDuplicateCheckResponseDto(memberRepository.existsByNickname(nickname));
+        return MemberDtoConverter.toDuplicateCheckResponseDto(isNicknameTaken(nickname));
+    }
+
+    // 인덱스가 완전하고 "확실히 없음"이라고 할 때만 DB를 조회하지 않는다 (MemberDuplicateIndex.isComplete)
+    private boolean isEmailTaken(String email) {
+        return memberDuplicateIndex.mightContainEmail(email) && memberRepository.existsByEmail(email);
+    }
+
+    private boolean isNicknameTaken(String nickname) {
+        return memberDuplicateIndex.mightContainNickname(nickname) && memberRepository.existsByNickname(nickname);
+    }
+
+    // 동시 가입 등으로 유니크 제약에 걸린 경우 어떤 제약인지에 따라 에러 코드 변환
+    private RuntimeException toDuplicateException(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            message = violation.getConstraintName().toLowerCase(Locale.ROOT) + " " + message;
+        }
+        if (message.contains(Member.EMAIL_UNIQUE_CONSTRAINT)) {
+            return new CustomException(ErrorCode.DUPLICATE_EMAIL);
+        }
+        if (message.contains(Member.NICKNAME_UNIQUE_CONSTRAINT)) {
+            return new CustomException(ErrorCode.DUPLICATE_NICKNAME);
+        }
+        return e;
     }
 }
@@ -1,24 +1,26 @@
 package com.example.spring_practice.domain.post.controller;
 
-import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.member.service.AuthService;
 import com.example.spring_practice.domain.post.dto.PostIdResponseDto;
+import com.example.spring_practice.domain.post.dto.PostListResponseDto;
 import com.example.spring_practice.domain.post.dto.PostRequestDto;
 import com.example.spring_practice.domain.post.dto.PostResponseDto;
 import com.example.spring_practice.domain.post.dto.PostSummaryResponseDto;
+import com.example.spring_practice.domain.post.service.PostExportService;
 import com.example.spring_practice.domain.post.service.PostService;
 import com.example.spring_practice.global.response.ApiResponse;
+import com.example.spring_practice.global.response.ApiResponseStreamer;
 import com.example.spring_practice.global.response.Message;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,23 +28,40 @@ import java.util.List;
 public class PostController {
     private final AuthService authService;
     private final PostService postService;
+    private final PostExportService postExportService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
-    @Operation(summary = "게시글 목록 불러오기", description = "게시글 목록을 불러옵니다.")
+    @Operation(summary = "게시글 목록 불러오기", description = "게시글 목록을 최신순으로 커서 기반 페이지 단위로 불러옵니다.")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)", required = false)
+    @Parameter(name = "size", description = "페이지 크기 (최대 50)", example = "10", required = false)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PostSummaryResponseDto>>> getPostList() {
-        Long currentMemberId = authService.getCurrentMember().getMemberId();
-        List<PostSummaryResponseDto> posts = postService.getPostList(currentMemberId);
+    public ResponseEntity<ApiResponse<PostListResponseDto>> getPostList(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        Long currentMemberId = authService.getCurrentMemberId();
+        PostListResponseDto posts = postService.getPostList(cursor, size, currentMemberId);
         return ResponseEntity.ok(
                 ApiResponse.success(Message.GET_POST_LIST_SUCCESS, posts)
         );
     }
 
+    @Operation(summary = "게시글 전체 내보내기", description = "게시글 목록 전체를 최신순으로 스트리밍합니다. 관리자만 사용할 수 있으며, 응답 형식은 목록 불러오기의 posts 배열과 같습니다.")
+    @PreAuthorize("@authorizationChecker.isAdmin()")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPostList() {
+        Long currentMemberId = authService.getCurrentMemberId();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(apiResponseStreamer.<PostSummaryResponseDto>list(Message.GET_POST_LIST_SUCCESS,
+                        sink -> postExportService.exportFeed(currentMemberId, sink)));
+    }
+
     @Operation(summary = "게시글 상세보기", description = "게시글 상세정보를 불러옵니다.")
     @Parameter(name = "postId", description = "게시글 ID", example = "1", required = true)
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostResponseDto>> getPostDetail(
             @PathVariable Long postId) {
-        Long currentMemberId = authService.getCurrentMember().getMemberId();
+        Long currentMemberId = authService.getCurrentMemberId();
         PostResponseDto postDetail = postService.getPostDetail(postId, currentMemberId);
         return ResponseEntity.ok(
                 ApiResponse.success(Message.GET_POST_DETAIL_SUCCESS, postDetail)
@@ -54,12 +73,12 @@ public class PostController {
     public ResponseEntity<ApiResponse<PostIdResponseDto>> createPost(
             @Valid @ModelAttribute PostRequestDto postRequestDto) {
 
-        Member currentMember = authService.getCurrentMember();
+        Long currentMemberId = authService.getCurrentMemberId();
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success(Message.POST_POST_SUCCESS,
-                        postService.createPost(postRequestDto, currentMember)));
+                        postService.createPost(postRequestDto, currentMemberId)));
     }
 
     @Operation(summary = "게시글 수정", description = "게시글을 수정합니다.")
@@ -91,8 +110,8 @@ public class PostController {
     @PostMapping("/{postId}/like")
     public ResponseEntity<ApiResponse<Void>> createPostLike(@PathVariable Long postId) {
 
-        Member currentMember = authService.getCurrentMember();
-        postService.createPostLike(postId, currentMember);
+        Long currentMemberId = authService.getCurrentMemberId();
+        postService.createPostLike(postId, currentMemberId);
 
         return ResponseEntity.ok(ApiResponse.success(Message.POST_LIKE_SUCCESS));
     }
@@ -101,8 +120,8 @@ public class PostController {
     @DeleteMapping("/{postId}/like")
     public ResponseEntity<ApiResponse<Void>> deletePostLike(@PathVariable Long postId) {
 
-        Member currentMember = authService.getCurrentMember();
-        postService.deletePostLike(postId, currentMember.getMemberId());
+        Long currentMemberId = authService.getCurrentMemberId();
+        postService.deletePostLike(postId, currentMemberId);
 
         return ResponseEntity.ok(ApiResponse.success(Message.POST_UNLIKE_SUCCESS));
     }
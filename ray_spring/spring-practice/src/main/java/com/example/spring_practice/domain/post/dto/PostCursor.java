@@ -0,0 +1,43 @@
+package com.example.spring_practice.domain.post.dto;
+
+import com.example.spring_practice.global.response.CustomException;
+import com.example.spring_practice.global.response.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 커서. 마지막으로 내려준 게시글의 (createdAt, postId)를 담고,
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime createdAt;
+    private Long postId;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
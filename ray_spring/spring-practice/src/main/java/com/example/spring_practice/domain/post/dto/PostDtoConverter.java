@@ -14,16 +14,29 @@ import java.util.List;
 @RequiredArgsConstructor
 @Component
 public class PostDtoConverter {
-    static public PostSummaryResponseDto toPostSummaryResponseDto(Post post,String imgUrl, boolean isPostLiked){
+    static public PostSummaryResponseDto toPostSummaryResponseDto(Post post,String imgUrl, boolean isPostLiked, long viewCount){
         return new PostSummaryResponseDto(
                 post.getPostId(),
                 post.getTitle(),
                 post.getCreatedAt(),
                 post.getMember().getNickname(),
                 imgUrl,
-                post.getPostLikeList().size(),
+                post.getLikeCount(),
+                viewCount,
+                post.getCommentCount(),
+                isPostLiked
+        );
+    }
+    static public PostSummaryResponseDto toPostSummaryResponseDto(PostSummaryQueryDto post, String imgUrl, boolean isPostLiked){
+        return new PostSummaryResponseDto(
+                post.getPostId(),
+                post.getTitle(),
+                post.getCreatedAt(),
+                post.getAuthor(),
+                imgUrl,
+                post.getLikeCount(),
                 post.getViewCount(),
-                post.getCommentList().size(),
+                post.getCommentCount(),
                 isPostLiked
         );
     }
@@ -34,13 +47,20 @@ public class PostDtoConverter {
                 post.getMember().getMemberId().equals(currentMemberId)
         );
     }
-    static public PostResponseDto toPostResponseDto(Post post, String imgUrl, Long currentMemberId, boolean isPostLiked){
+    static public PostResponseDto toPostResponseDto(Post post, String imgUrl, Long currentMemberId, boolean isPostLiked, long viewCount){
         return new PostResponseDto(
-                toPostSummaryResponseDto(post, imgUrl, isPostLiked),
+                toPostSummaryResponseDto(post, imgUrl, isPostLiked, viewCount),
                 toPostDetailsResponseDto(post, imgUrl, currentMemberId)
         );
     }
 
+    static public PostListResponseDto toPostListResponseDto(List<PostSummaryResponseDto> posts, PostCursor nextCursor){
+        return new PostListResponseDto(
+                posts,
+                nextCursor == null ? null : nextCursor.encode()
+        );
+    }
+
     static public PostIdResponseDto toPostIdResponseDto(Long postId){
         return new PostIdResponseDto(postId);
     }
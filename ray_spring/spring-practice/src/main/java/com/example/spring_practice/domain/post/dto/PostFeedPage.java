@@ -0,0 +1,20 @@
+package com.example.spring_practice.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원과 무관한 피드 한 페이지 (캐시 단위). 회원별 좋아요 여부는 포함하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostFeedPage {
+    private List<PostSummaryQueryDto> posts;
+    private PostCursor nextCursor;
+
+    public boolean contains(Long postId) {
+        return posts.stream().anyMatch(post -> post.getPostId().equals(postId));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.spring_practice.domain.post.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostListResponseDto {
+    @Schema(description = "게시글 목록")
+    private List<PostSummaryResponseDto> posts;
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0xMC0yM1QxNTozNTo0My4xMjNfMTc")
+    private String nextCursor;
+}
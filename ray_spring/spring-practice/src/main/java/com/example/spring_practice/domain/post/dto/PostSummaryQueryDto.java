@@ -0,0 +1,23 @@
+package com.example.spring_practice.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 조회 전용 읽기 모델. JPQL 생성자 표현식으로 필요한 컬럼만 조회하므로
+ * 본문(content)이나 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryQueryDto {
+    private Long postId;
+    private String title;
+    private LocalDateTime createdAt;
+    private String author;
+    private String imgUrl;
+    private Long likeCount;
+    private Long viewCount;
+    private Long commentCount;
+}
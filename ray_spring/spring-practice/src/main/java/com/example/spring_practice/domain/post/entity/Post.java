@@ -3,12 +3,17 @@ package com.example.spring_practice.domain.post.entity;
 import com.example.spring_practice.domain.comment.entity.Comment;
 import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.post.dto.PostRequestDto;
+import com.example.spring_practice.global.id.Tsid;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,12 +21,21 @@ import java.util.List;
 
 @Getter
 @Entity
+@DynamicUpdate
+// 상세 조회용 2차 캐시. JDBC로 반영하는 카운터/조회수는 해당 게시글만, JPQL 벌크 수정/삭제는 리전 전체를 무효화한다
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Post.CACHE_REGION)
+@Table(indexes = {
+        // 피드 커서 페이지네이션 (created_at, post_id) 역순 탐색용 복합 인덱스
+        @Index(name = "idx_post_created_at_post_id", columnList = "created_at, post_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @AllArgsConstructor
 public class Post {
+    public static final String CACHE_REGION = "post";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long postId;
 
     private String title;
@@ -40,6 +54,15 @@ public class Post {
 
     private long viewCount = 0;
 
+    // 좋아요/댓글 수는 컬렉션을 읽지 않도록 비정규화해서 보관하고, 벌크 UPDATE로만 증감한다
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long likeCount = 0;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount = 0;
+
     private String imgUrl;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -61,10 +84,6 @@ public class Post {
         this.imgUrl = imgUrl;
     }
 
-    public void increaseViewCount(){
-        this.viewCount++;
-    }
-
     public Post(PostRequestDto postRequestDto, Member member){
         this.title = postRequestDto.getTitle();
         this.content = postRequestDto.getContent();
@@ -1,6 +1,7 @@
 package com.example.spring_practice.domain.post.entity;
 
 import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.global.id.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,7 @@ import lombok.*;
 @AllArgsConstructor
 public class PostLike {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long postLikeId;
 
     @ManyToOne
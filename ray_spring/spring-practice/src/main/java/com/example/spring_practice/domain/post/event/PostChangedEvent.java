@@ -0,0 +1,30 @@
+package com.example.spring_practice.domain.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 또는 게시글에 딸린 좋아요/댓글이 바뀌었음을 알리는 도메인 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Long postId;
+    private Type type;
+
+    public static PostChangedEvent created(Long postId) {
+        return new PostChangedEvent(postId, Type.CREATED);
+    }
+
+    public static PostChangedEvent updated(Long postId) {
+        return new PostChangedEvent(postId, Type.UPDATED);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, Type.DELETED);
+    }
+}
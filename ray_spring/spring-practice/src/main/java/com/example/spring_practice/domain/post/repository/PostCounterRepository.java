@@ -0,0 +1,57 @@
+package com.example.spring_practice.domain.post.repository;
+
+import com.example.spring_practice.domain.post.entity.Post;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 좋아요/댓글 수 증감 (행 단위 원자적 UPDATE).
+ * JPQL 벌크 UPDATE는 Post 2차 캐시 리전 전체를 비우므로 JDBC로 실행하고, 커밋 후 해당 게시글만 캐시에서 지운다.
+ * 호출한 트랜잭션의 커넥션을 그대로 쓰므로 롤백되면 증감도 함께 취소된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public int increaseLikeCount(Long postId) {
+        return update("UPDATE post SET like_count = like_count + 1 WHERE post_id = ?", postId);
+    }
+
+    public int decreaseLikeCount(Long postId) {
+        return update("UPDATE post SET like_count = like_count - 1 WHERE post_id = ? AND like_count > 0", postId);
+    }
+
+    public int increaseCommentCount(Long postId) {
+        return update("UPDATE post SET comment_count = comment_count + 1 WHERE post_id = ?", postId);
+    }
+
+    public int decreaseCommentCount(Long postId) {
+        return update("UPDATE post SET comment_count = comment_count - 1 WHERE post_id = ? AND comment_count > 0", postId);
+    }
+
+    private int update(String sql, Long postId) {
+        int updated = jdbcTemplate.update(sql, postId);
+        evictAfterCommit(postId);
+        return updated;
+    }
+
+    // 커밋 전에 지우면 그 사이 다른 조회가 이전 값을 다시 캐시에 올릴 수 있다
+    private void evictAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(Post.class, postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Post.class, postId);
+            }
+        });
+    }
+}
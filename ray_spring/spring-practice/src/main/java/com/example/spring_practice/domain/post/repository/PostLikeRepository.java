@@ -2,9 +2,14 @@ package com.example.spring_practice.domain.post.repository;
 
 import com.example.spring_practice.domain.post.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike,Long> {
@@ -13,4 +18,13 @@ public interface PostLikeRepository extends JpaRepository<PostLike,Long> {
     void deleteByPost_PostIdAndMember_MemberId(Long postId, Long memberId);
 
     Optional<PostLike> findByPost_PostIdAndMember_MemberId(Long postId, Long memberId);
+
+    // 한 페이지 게시글 중 내가 좋아요 누른 게시글 ID를 한 번에 조회
+    @Query("SELECT pl.post.postId FROM PostLike pl " +
+            "WHERE pl.member.memberId = :memberId AND pl.post.postId IN :postIds")
+    Set<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PostLike pl WHERE pl.post.postId = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
 }
@@ -1,14 +1,77 @@
 package com.example.spring_practice.domain.post.repository;
 
+import com.example.spring_practice.domain.post.dto.PostSummaryQueryDto;
 import com.example.spring_practice.domain.post.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post,Long> {
-    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.member")
-    List<Post> findAllWithMember();
+    // 피드 첫 페이지 (목록에 필요한 컬럼만 DTO로 조회)
+    @Query("SELECT new com.example.spring_practice.domain.post.dto.PostSummaryQueryDto(" +
+            "p.postId, p.title, p.createdAt, m.nickname, p.imgUrl, p.likeCount, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.member m " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostSummaryQueryDto> findFeed(Pageable pageable);
+
+    // 커서 이후 페이지 (OFFSET 대신 (createdAt, postId) 기준 seek)
+    @Query("SELECT new com.example.spring_practice.domain.post.dto.PostSummaryQueryDto(" +
+            "p.postId, p.title, p.createdAt, m.nickname, p.imgUrl, p.likeCount, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.member m " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostSummaryQueryDto> findFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("postId") Long postId,
+                                            Pageable pageable);
+
+    // 권한 확인용 (엔티티 대신 작성자 ID만 조회)
+    @Query("SELECT p.member.memberId FROM Post p WHERE p.postId = :postId")
+    Optional<Long> findAuthorIdByPostId(@Param("postId") Long postId);
+
+    // 이미지 교체/게시글 삭제 시 이전 이미지 반환용
+    @Query("SELECT p.imgUrl FROM Post p WHERE p.postId = :postId")
+    Optional<String> findImgUrlByPostId(@Param("postId") Long postId);
+
+    // 게시글 수정 (이미지는 새로 올린 경우에만 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.title = :title, p.content = :content, p.imgUrl = COALESCE(:imgUrl, p.imgUrl) " +
+            "WHERE p.postId = :postId")
+    int updatePost(@Param("postId") Long postId,
+                   @Param("title") String title,
+                   @Param("content") String content,
+                   @Param("imgUrl") String imgUrl);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 좋아요/댓글 수 증감은 2차 캐시를 게시글 단위로 무효화하도록 PostCounterRepository(JDBC)에서 한다
+
+    // 카운터 보정 배치용
+    @Query("SELECT p.postId FROM Post p WHERE p.postId > :lastPostId ORDER BY p.postId")
+    List<Long> findPostIdsAfter(@Param("lastPostId") Long lastPostId, Pageable pageable);
+
+    // 네이티브 UPDATE는 대상 테이블을 알려 주지 않으면 2차 캐시 전체(회원, 쿼리 캐시)를 비우므로 post만 바뀐 것으로 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post"))
+    @Query(value = "UPDATE post p SET " +
+            "like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.post_id), " +
+            "comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id) " +
+            "WHERE p.post_id IN (:postIds) AND (" +
+            "p.like_count <> (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.post_id) OR " +
+            "p.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id))",
+            nativeQuery = true)
+    int reconcileCounters(@Param("postIds") Collection<Long> postIds);
 }
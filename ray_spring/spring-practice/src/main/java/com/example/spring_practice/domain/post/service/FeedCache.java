@@ -0,0 +1,91 @@
+package com.example.spring_practice.domain.post.service;
+
+import com.example.spring_practice.domain.post.dto.PostFeedPage;
+import com.example.spring_practice.domain.post.event.PostChangedEvent;
+import com.example.spring_practice.global.datasource.RoutingHint;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 피드 페이지 캐시. (cursor, size) 단위로 회원과 무관한 페이지를 크기/TTL 제한을 두고 보관한다.
+ * 게시글 변경 이벤트가 커밋된 뒤에 무효화한다.
+ * 무효화보다 먼저 시작한 조회가 무효화 뒤에 끝나면 이전 페이지를 다시 넣을 수 있으므로, 무효화마다 세대(generation)를 올리고
+ * 조회 중에 세대가 바뀐 결과는 캐시에서 빼고 호출자에게만 돌려준다. 다른 요청이 그 짧은 사이에 이전 페이지를 받을 수는 있다.
+ * 읽기/쓰기 라우팅을 켠 경우, 무효화 후 lag-window 동안의 다시 채우기는 primary에서 읽는다
+ * (아직 복제되지 않은 replica 페이지가 모든 회원에게 TTL 동안 캐시되지 않도록).
+ */
+@Component
+public class FeedCache {
+    private final boolean enabled;
+    private final Cache<String, PostFeedPage> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final long lagWindowNanos;
+    // 이 시각(nanoTime) 전까지의 다시 채우기는 primary에서 읽는다
+    private volatile long primaryUntilNanos;
+
+    public FeedCache(@Value("${post.feed-cache.enabled:true}") boolean enabled,
+                     @Value("${post.feed-cache.max-size:500}") long maxSize,
+                     @Value("${post.feed-cache.ttl-seconds:30}") long ttlSeconds,
+                     @Value("${datasource.routing.lag-window-ms:3000}") long lagWindowMillis,
+                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.lagWindowNanos = TimeUnit.MILLISECONDS.toNanos(lagWindowMillis);
+        this.primaryUntilNanos = System.nanoTime();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.feed");
+    }
+
+    public PostFeedPage get(String cursor, int size, Supplier<PostFeedPage> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = key(cursor, size);
+        long[] loadedAt = {-1};
+        PostFeedPage page = cache.get(key, k -> {
+            loadedAt[0] = generation.get();
+            return System.nanoTime() - primaryUntilNanos < 0 ? RoutingHint.forcePrimary(loader) : loader.get();
+        });
+        // 이 호출이 직접 읽었고, 읽는 동안 무효화가 있었으면 이전 데이터일 수 있으므로 캐시에 남기지 않는다
+        if (loadedAt[0] >= 0 && loadedAt[0] != generation.get()) {
+            cache.asMap().remove(key, page);
+        }
+        return page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 진행 중인 조회가 결과를 넣기 전에 세대를 먼저 올린다
+        primaryUntilNanos = System.nanoTime() + lagWindowNanos;
+        generation.incrementAndGet();
+        if (event.getType() == PostChangedEvent.Type.UPDATED) {
+            // 수정/좋아요/댓글은 해당 게시글이 들어 있는 페이지만 무효화
+            cache.asMap().values().removeIf(page -> page.contains(event.getPostId()));
+        } else {
+            // 작성/삭제는 이후 페이지 경계가 모두 밀리므로 전체 무효화
+            cache.invalidateAll();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private String key(String cursor, int size) {
+        return (cursor == null ? "" : cursor) + "|" + size;
+    }
+}
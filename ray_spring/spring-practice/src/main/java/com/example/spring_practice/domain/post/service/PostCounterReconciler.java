@@ -0,0 +1,41 @@
+package com.example.spring_practice.domain.post.service;
+
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글의 좋아요/댓글 수 컬럼을 실제 post_like, comment 행 수와 주기적으로 맞춘다.
+ * 게시글 ID 순으로 일정 개수씩 끊어서, 배치마다 별도 트랜잭션으로 어긋난 행만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconciler {
+    private static final int BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${post.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        long lastPostId = 0L;
+        int repaired = 0;
+        while (true) {
+            List<Long> postIds = postRepository.findPostIdsAfter(lastPostId, PageRequest.of(0, BATCH_SIZE));
+            if (postIds.isEmpty()) {
+                break;
+            }
+            Integer updated = transactionTemplate.execute(status -> postRepository.reconcileCounters(postIds));
+            repaired += updated == null ? 0 : updated;
+            lastPostId = postIds.get(postIds.size() - 1);
+        }
+        log.info("게시글 카운터 보정 완료: {}건 수정", repaired);
+    }
+}
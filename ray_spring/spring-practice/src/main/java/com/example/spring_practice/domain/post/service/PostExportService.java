@@ -0,0 +1,48 @@
+package com.example.spring_practice.domain.post.service;
+
+import com.example.spring_practice.domain.post.dto.PostDtoConverter;
+import com.example.spring_practice.domain.post.dto.PostSummaryQueryDto;
+import com.example.spring_practice.domain.post.dto.PostSummaryResponseDto;
+import com.example.spring_practice.domain.post.repository.PostLikeRepository;
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import com.example.spring_practice.domain.shared.ImageService;
+import com.example.spring_practice.domain.shared.ImageSize;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 전체 피드 내보내기 (관리자용 스트리밍 응답). 피드와 같은 (createdAt, postId) keyset으로 BATCH_SIZE씩 읽는다.
+ * 배치당 쿼리는 게시글 1 + 좋아요 여부 1. 트랜잭션 없이 실행된다 (ApiResponseStreamer 참고).
+ */
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+    static final int BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final ImageService imageService;
+
+    public void exportFeed(Long currentMemberId, Consumer<PostSummaryResponseDto> sink) {
+        Pageable limit = PageRequest.of(0, BATCH_SIZE);
+        List<PostSummaryQueryDto> batch = postRepository.findFeed(limit);
+        while (!batch.isEmpty()) {
+            List<Long> postIds = batch.stream().map(PostSummaryQueryDto::getPostId).toList();
+            Set<Long> likedPostIds = postLikeRepository.findLikedPostIds(currentMemberId, postIds);
+            for (PostSummaryQueryDto post : batch) {
+                sink.accept(PostDtoConverter.toPostSummaryResponseDto(post, imageService.getFullImgUrl(post.getImgUrl(), ImageSize.THUMBNAIL), likedPostIds.contains(post.getPostId())));
+            }
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+            PostSummaryQueryDto last = batch.get(batch.size() - 1);
+            batch = postRepository.findFeedAfter(last.getCreatedAt(), last.getPostId(), limit);
+        }
+    }
+}
@@ -1,84 +1,166 @@
 package com.example.spring_practice.domain.post.service;
 
+import com.example.spring_practice.domain.comment.repository.CommentRepository;
 import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.domain.member.repository.MemberRepository;
 import com.example.spring_practice.domain.post.dto.*;
 import com.example.spring_practice.domain.post.entity.Post;
 import com.example.spring_practice.domain.post.entity.PostLike;
+import com.example.spring_practice.domain.post.event.PostChangedEvent;
+import com.example.spring_practice.domain.post.repository.PostCounterRepository;
 import com.example.spring_practice.domain.post.repository.PostLikeRepository;
 import com.example.spring_practice.domain.post.repository.PostRepository;
 import com.example.spring_practice.domain.shared.ImageService;
+import com.example.spring_practice.domain.shared.ImageSize;
+import com.example.spring_practice.domain.shared.ImageTransactionTemplate;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
+import com.example.spring_practice.global.security.OwnershipLookup;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    public static final int MAX_PAGE_SIZE = 50;
+
     private final PostRepository postRepository;
+    private final PostCounterRepository postCounterRepository;
     private final ImageService imageService;
+    private final ImageTransactionTemplate imageTransactionTemplate;
     private final PostLikeRepository postLikeRepository;
+    private final MemberRepository memberRepository;
+    private final CommentRepository commentRepository;
+    private final OwnershipLookup ownershipLookup;
+    private final ViewCountBuffer viewCountBuffer;
+    private final FeedCache feedCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostListResponseDto getPostList(String cursor, int size, Long currentMemberId) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 회원과 무관한 페이지는 캐시에서 가져오고, 좋아요 여부만 회원별로 덧씌운다
+        PostFeedPage page = feedCache.get(cursor, pageSize, () -> loadFeedPage(cursor, pageSize));
 
-    public List<PostSummaryResponseDto> getPostList(Long currentMemberId) {
-        List<Post> posts = postRepository.findAllWithMember();
+        Set<Long> likedPostIds = findLikedPostIds(page.getPosts(), currentMemberId);
         List<PostSummaryResponseDto> postSummaryResponseDtos = new ArrayList<>();
-        for (Post post : posts) {
-            boolean isPostLiked = postLikeRepository.existsByPost_PostIdAndMember_MemberId(post.getPostId(), currentMemberId);
-            postSummaryResponseDtos.add(PostDtoConverter.toPostSummaryResponseDto(post, imageService.getFullImgUrl(post.getImgUrl()), isPostLiked));
+        for (PostSummaryQueryDto post : page.getPosts()) {
+            boolean isPostLiked = likedPostIds.contains(post.getPostId());
+            postSummaryResponseDtos.add(PostDtoConverter.toPostSummaryResponseDto(post, imageService.getFullImgUrl(post.getImgUrl(), ImageSize.THUMBNAIL), isPostLiked));
         }
-        return postSummaryResponseDtos;
+        return PostDtoConverter.toPostListResponseDto(postSummaryResponseDtos, page.getNextCursor());
+    }
+
+    private PostFeedPage loadFeedPage(String cursor, int pageSize) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<PostSummaryQueryDto> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFeed(limit);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            posts = postRepository.findFeedAfter(postCursor.getCreatedAt(), postCursor.getPostId(), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = new ArrayList<>(posts.subList(0, pageSize));
+        }
+
+        PostCursor nextCursor = null;
+        if (hasNext) {
+            PostSummaryQueryDto last = posts.get(posts.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getPostId());
+        }
+        return new PostFeedPage(posts, nextCursor);
+    }
+
+    private Set<Long> findLikedPostIds(List<PostSummaryQueryDto> posts, Long currentMemberId) {
+        if (posts.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> postIds = posts.stream().map(PostSummaryQueryDto::getPostId).toList();
+        return postLikeRepository.findLikedPostIds(currentMemberId, postIds);
     }
 
     public PostResponseDto getPostDetail(Long postId, Long currentMemberId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-        post.increaseViewCount();
+        // 조회수는 버퍼에만 기록하고, 응답에는 아직 반영되지 않은 증가분을 더해서 내려준다
+        long viewCount = post.getViewCount() + viewCountBuffer.increase(postId);
         boolean isPostLiked = postLikeRepository.existsByPost_PostIdAndMember_MemberId(postId, currentMemberId);
-        return PostDtoConverter.toPostResponseDto(post, imageService.getFullImgUrl(post.getImgUrl()), currentMemberId, isPostLiked);
+        return PostDtoConverter.toPostResponseDto(post, imageService.getFullImgUrl(post.getImgUrl(), ImageSize.LARGE), currentMemberId, isPostLiked, viewCount);
     }
 
-    @Transactional
-    public PostIdResponseDto createPost(PostRequestDto postRequestDto, Member currentMember) {
-        Post post = new Post(postRequestDto, currentMember);
-        
-        if(postRequestDto.getPostImage() != null){
-            post.updateImageUrl(imageService.saveImg(postRequestDto.getPostImage()));
-        }
-        return PostDtoConverter.toPostIdResponseDto(postRepository.save(post).getPostId());
+    // 이미지 파일은 트랜잭션 밖에서 먼저 저장하고, DB 작업만 짧은 트랜잭션으로 실행 (ImageTransactionTemplate)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostIdResponseDto createPost(PostRequestDto postRequestDto, Long currentMemberId) {
+        Long postId = imageTransactionTemplate.execute(postRequestDto.getPostImage(), imgUrl -> {
+            // 연관관계 설정만 필요하므로 회원은 조회하지 않고 참조만 건다
+            Member currentMember = memberRepository.getReferenceById(currentMemberId);
+            Post post = new Post(postRequestDto, currentMember);
+            if (imgUrl != null) {
+                post.updateImageUrl(imgUrl);
+            }
+            Long savedPostId = postRepository.save(post).getPostId();
+            eventPublisher.publishEvent(PostChangedEvent.created(savedPostId));
+            return savedPostId;
+        });
+        return PostDtoConverter.toPostIdResponseDto(postId);
     }
 
-    @Transactional
+    // 권한 확인(@PreAuthorize)에서 조회한 작성자 정보를 재사용해 존재 여부를 확인하고, 벌크 UPDATE 한 번으로 수정
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostIdResponseDto editPost(Long postId, PostRequestDto postRequestDto) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        ownershipLookup.getPostAuthorId(postId);
 
-        post.updateTitle(postRequestDto.getTitle());
-        post.updateContent(postRequestDto.getContent());
-        if(postRequestDto.getPostImage() != null){
-            post.updateImageUrl(imageService.saveImg(postRequestDto.getPostImage()));
-        }
-        return PostDtoConverter.toPostIdResponseDto(post.getPostId());
+        imageTransactionTemplate.execute(postRequestDto.getPostImage(), imgUrl -> {
+            // 새 이미지로 바꾸는 경우에만 이전 이미지를 읽어 커밋 후 반환
+            if (imgUrl != null) {
+                postRepository.findImgUrlByPostId(postId).ifPresent(imageTransactionTemplate::releaseAfterCommit);
+            }
+            if (postRepository.updatePost(postId, postRequestDto.getTitle(), postRequestDto.getContent(), imgUrl) == 0) {
+                throw new CustomException(ErrorCode.POST_NOT_FOUND);
+            }
+            eventPublisher.publishEvent(PostChangedEvent.updated(postId));
+            return postId;
+        });
+        return PostDtoConverter.toPostIdResponseDto(postId);
     }
 
+    // 좋아요/댓글 컬렉션을 엔티티로 올리지 않고 자식부터 벌크 DELETE
     @Transactional
     public void deletePost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        ownershipLookup.getPostAuthorId(postId);
+        postRepository.findImgUrlByPostId(postId).ifPresent(imageTransactionTemplate::releaseAfterCommit);
 
-        postRepository.delete(post);
+        postLikeRepository.deleteAllByPostId(postId);
+        commentRepository.deleteAllByPostId(postId);
+        postRepository.deleteByPostId(postId);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
     @Transactional
-    public void createPostLike(Long postId, Member currentMember) {
-        if(!postLikeRepository.existsByPost_PostIdAndMember_MemberId(postId, currentMember.getMemberId())){
+    public void createPostLike(Long postId, Long currentMemberId) {
+        if(!postLikeRepository.existsByPost_PostIdAndMember_MemberId(postId, currentMemberId)){
             Post post = postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+            Member currentMember = memberRepository.getReferenceById(currentMemberId);
             PostLike postLike = new PostLike(currentMember, post);
             postLikeRepository.save(postLike);
+            postCounterRepository.increaseLikeCount(postId);
+            eventPublisher.publishEvent(PostChangedEvent.updated(postId));
         } else {
             throw new CustomException(ErrorCode.ALLREADY_POST_LIKE);
         }
@@ -89,5 +171,7 @@ public class PostService {
         PostLike postLike = postLikeRepository.findByPost_PostIdAndMember_MemberId(postId, memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_LIKE_NOT_FOUND));
         postLikeRepository.deleteByPost_PostIdAndMember_MemberId(postId, memberId);
+        postCounterRepository.decreaseLikeCount(postId);
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
     }
 }
@@ -0,0 +1,138 @@
+package com.example.spring_practice.domain.post.service;
+
+import com.example.spring_practice.domain.post.entity.Post;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 조회 요청은 게시글별 LongAdder에 더하기만 하고 (인기 게시글에 몰려도 한 값을 두고 경쟁하지 않는다),
+ * 주기적으로 게시글당 한 번의 {@code UPDATE post SET view_count = view_count + ?}를 배치로 반영한다.
+ * 반영할 때는 sumThenReset으로 꺼내므로 꺼내는 도중의 증가도 다음 주기로 남아 유실되지 않는다.
+ * 한 주기 동안 증가가 없던 항목은 맵에서 치운다.
+ * 비정상 종료 시 유실 가능한 범위는 flush 주기 동안의 증가분이며, 정상 종료 시에는 남은 증가분을 모두 반영한다.
+ * JDBC로 직접 반영하므로 Hibernate가 모르는 변경이다. 반영한 게시글은 커밋 후 2차 캐시에서 직접 지운다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+    private static final String FLUSH_SQL = "UPDATE post SET view_count = view_count + ? WHERE post_id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // flush는 한 번에 하나만 실행
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Counter bufferedCounter;
+    private final Counter flushedCounter;
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           EntityManagerFactory entityManagerFactory,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.bufferedCounter = Counter.builder("post.view.buffered")
+                .description("버퍼에 쌓인 조회수 증가분")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("post.view.flushed")
+                .description("DB에 반영된 조회수 증가분")
+                .register(meterRegistry);
+        Gauge.builder("post.view.pending.posts", pending, Map::size)
+                .description("반영 대기 중인 게시글 수 (증가 없이 한 주기를 지나기 전까지는 반영한 게시글도 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가를 버퍼에 기록하고, 아직 DB에 반영되지 않은 해당 게시글의 증가분을 반환한다.
+     */
+    public long increase(Long postId) {
+        bufferedCounter.increment();
+        return add(postId, 1);
+    }
+
+    private long add(Long postId, long delta) {
+        while (true) {
+            LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            adder.add(delta);
+            if (pending.get(postId) == adder) {
+                return adder.sum();
+            }
+            // 더하는 사이 flush가 빈 항목으로 보고 치웠다. 떨어져 나간 항목에 남은 값을 새 항목으로 옮긴다
+            delta = adder.sumThenReset();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        List<long[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long postId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0 && pending.remove(postId, adder)) {
+                // 확인과 제거 사이에 더해진 값 (제거 뒤에 더해진 값은 increase가 새 항목으로 옮긴다)
+                delta = adder.sumThenReset();
+            }
+            if (delta > 0) {
+                batch.add(new long[]{postId, delta});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 여러 인스턴스가 동시에 반영할 때 락 순서를 맞추기 위해 post_id 순으로 정렬
+        batch.sort(Comparator.comparingLong(row -> row[0]));
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, batch, batch.size(), (ps, row) -> {
+                        ps.setLong(1, row[1]);
+                        ps.setLong(2, row[0]);
+                    }));
+            for (long[] row : batch) {
+                entityManagerFactory.getCache().evict(Post.class, row[0]);
+            }
+            flushedCounter.increment(batch.stream().mapToLong(row -> row[1]).sum());
+        } catch (DataAccessException e) {
+            // 반영 실패한 증가분은 버퍼에 되돌려 다음 주기에 재시도
+            for (long[] row : batch) {
+                add(row[0], row[1]);
+            }
+            log.warn("조회수 반영 실패, 다음 주기에 재시도합니다. posts={}", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
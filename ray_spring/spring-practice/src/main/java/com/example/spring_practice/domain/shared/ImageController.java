@@ -0,0 +1,222 @@
+package com.example.spring_practice.domain.shared;
+
+import com.example.spring_practice.global.response.CustomException;
+import com.example.spring_practice.global.response.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 제공 (/images/**).
+ * 업로드 파일명은 내용 해시나 UUID라서 한 번 만들어지면 바뀌지 않으므로 1년짜리 immutable 캐시를 준다.
+ * ETag는 내용 해시(content-addressed 파일명은 이름 자체)이고, If-None-Match가 맞으면 본문 없이 304로 답한다.
+ * 단일 Range 요청은 206으로 잘라 보내며, 큰 파일은 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 전송한다.
+ */
+@Hidden
+@Controller
+public class ImageController {
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String PATH_PREFIX = "/images/";
+    // content-addressed 원본/변형 파일명: <sha256>[_<px>]
+    private static final Pattern HASHED_NAME = Pattern.compile("[0-9a-f]{64}(_\\d+)?");
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 크다 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final UrlPathHelper PATH_HELPER = UrlPathHelper.defaultInstance;
+
+    private final Path root;
+    // UUID 파일명처럼 이름에 해시가 없는 파일의 ETag (경로/크기/수정 시각 → 내용 해시)
+    private final Cache<String, String> digestCache;
+
+    public ImageController(@Value("${file.upload.path}") String uploadPath,
+                           @Value("${file.serve.etag-cache-size:10000}") long etagCacheSize) {
+        this.root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.digestCache = Caffeine.newBuilder()
+                .maximumSize(etagCacheSize)
+                .build();
+    }
+
+    @RequestMapping(value = "/images/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(PATH_HELPER.getPathWithinApplication(request));
+        long length = Files.size(file);
+        String etag = etagOf(file, length);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long count = length;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            start = range.getRangeStart(length);
+            long end = range.getRangeEnd(length);
+            if (start >= length || end < start) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            count = end - start + 1;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentLengthLong(count);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+        transfer(request, response, file, start, count);
+    }
+
+    // 업로드 루트 밖, 숨김 경로(.tmp 등), 참조 수/작성 중 파일은 제공하지 않는다
+    private Path resolve(String pathWithinApplication) {
+        if (!pathWithinApplication.startsWith(PATH_PREFIX)) {
+            throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        String relative = pathWithinApplication.substring(PATH_PREFIX.length());
+        if (relative.isEmpty() || relative.startsWith(".") || relative.contains("/.")
+                || relative.endsWith(".ref") || relative.endsWith(".part")) {
+            throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        Path file = root.resolve(relative).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        return file;
+    }
+
+    private String etagOf(Path file, long length) throws IOException {
+        String fileName = file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot < 0 ? fileName : fileName.substring(0, dot);
+        if (HASHED_NAME.matcher(baseName).matches()) {
+            return "\"" + baseName + "\"";
+        }
+        String key = file + ":" + length + ":" + Files.getLastModifiedTime(file).toMillis();
+        try {
+            return digestCache.get(key, k -> "\"" + digest(file) + "\"");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // If-None-Match는 약한 비교 (W/ 접두사 무시)
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 단일 범위만 처리한다. 여러 범위, 잘못된 형식, If-Range 불일치는 전체 응답으로 대체
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void transfer(HttpServletRequest request, HttpServletResponse response,
+                                 Path file, long start, long count) throws IOException {
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 커넥터가 응답 후 커널 sendfile로 직접 보낸다 (유저 공간 복사 없음)
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static String digest(Path file) {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,8 +3,32 @@ package com.example.spring_practice.domain.shared;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface ImageService {
+    // 바로 최종 위치에 저장 (stageImg + promoteImg)
     String saveImg(MultipartFile file);
 
+    // 트랜잭션 시작 전에 임시 위치에 저장. DB에는 반환된 최종 경로(imgUrl)를 기록한다
+    StagedImage stageImg(MultipartFile file);
+
+    // 커밋 직전에 임시 파일을 promote 대기 상태로 바꾼다. 최종 경로를 파일에 남겨 재시작 후에도 promote할 수 있고, 임시 파일 정리 대상에서 빠진다
+    StagedImage markPending(StagedImage stagedImage);
+
+    // 커밋 후 임시 파일을 최종 위치로 옮긴다
+    void promoteImg(StagedImage stagedImage);
+
+    // 아직 promote하지 못한 대기 상태 임시 파일 (재시작 시 재시도 대기열 복구용)
+    List<StagedImage> findPendingImgs();
+
+    // 롤백 시 임시 파일 삭제
+    void discardImg(StagedImage stagedImage);
+
     String getFullImgUrl(String imgUrl);
+
+    // 요청한 크기의 리사이즈 변형 URL (아직 준비되지 않았으면 원본 URL)
+    String getFullImgUrl(String imgUrl, ImageSize size);
+
+    // 더 이상 참조하지 않는 이미지 반환 (content-addressed 파일은 참조 수가 0이 될 때 삭제)
+    void releaseImg(String imgUrl);
 }
@@ -0,0 +1,18 @@
+package com.example.spring_practice.domain.shared;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드 이미지의 리사이즈 변형 크기 (긴 변 기준 px). ORIGINAL은 원본.
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageSize {
+    AVATAR(64),
+    THUMBNAIL(320),
+    LARGE(1080),
+    ORIGINAL(0);
+
+    private final int maxDimension;
+}
@@ -0,0 +1,184 @@
+package com.example.spring_practice.domain.shared;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * 이미지가 포함된 쓰기 요청을 두 단계로 나눠 실행한다.
+ * 1) 트랜잭션(커넥션) 없이 업로드를 임시 위치에 저장
+ * 2) 최종 경로로 DB 작업을 짧은 트랜잭션에서 실행
+ * 커밋 직전에 임시 파일을 promote 대기 상태(ImageService.markPending)로 바꾸고, 커밋되면 최종 위치로 옮기고, 롤백되면 지운다.
+ * 커밋 후 옮기기에 실패하면 DB는 이미 새 경로를 가리키므로 대기 파일을 남겨 두고 주기적으로 다시 시도한다.
+ * 대기열은 메모리에만 있으므로 기동 시 남아 있는 대기 파일로 다시 채운다.
+ * 재시도를 다 쓰면 image.promote.abandoned 카운터로 알리고, 대기 파일은 다음 기동 때 다시 시도하도록 남긴다.
+ * 교체/삭제로 더 이상 참조하지 않는 이미지는 releaseAfterCommit으로 커밋 후에 반환한다 (롤백되면 그대로 둔다).
+ * 호출하는 서비스 메서드는 커넥션을 미리 잡지 않도록 {@code Propagation.SUPPORTS}로 둔다.
+ */
+@Slf4j
+@Component
+public class ImageTransactionTemplate {
+    private static final int MAX_PROMOTE_ATTEMPTS = 10;
+
+    private final ImageService imageService;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer stageTimer;
+    private final Timer transactionTimer;
+    private final Counter promoteFailedCounter;
+    private final Counter promoteAbandonedCounter;
+    // 커밋 후 promote에 실패해 재시도를 기다리는 임시 이미지
+    private final Queue<PendingPromotion> pendingPromotions = new ConcurrentLinkedQueue<>();
+
+    public ImageTransactionTemplate(ImageService imageService,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry) {
+        this.imageService = imageService;
+        this.transactionTemplate = transactionTemplate;
+        this.stageTimer = Timer.builder("image.write.stage")
+                .description("트랜잭션 밖에서 업로드를 임시 저장하는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.transactionTimer = Timer.builder("image.write.transaction")
+                .description("이미지 포함 쓰기 요청의 DB 트랜잭션 시간 (커넥션 점유 시간)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.promoteFailedCounter = Counter.builder("image.promote.failed")
+                .description("커밋 후 임시 이미지를 최종 위치로 옮기지 못한 횟수")
+                .register(meterRegistry);
+        this.promoteAbandonedCounter = Counter.builder("image.promote.abandoned")
+                .description("재시도를 다 쓰고 포기한 promote 수 (DB가 없는 파일을 가리킨다. 알림 대상)")
+                .register(meterRegistry);
+        Gauge.builder("image.promote.pending", pendingPromotions, Queue::size)
+                .description("재시도를 기다리는 임시 이미지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param file    업로드 파일 (없으면 null)
+     * @param dbWork  최종 이미지 경로(이미지가 없으면 null)를 받아 DB 작업을 수행
+     */
+    public <T> T execute(MultipartFile file, Function<String, T> dbWork) {
+        StagedImage stagedImage = file == null ? null : stageTimer.record(() -> imageService.stageImg(file));
+        try {
+            return transactionTimer.record(() -> transactionTemplate.execute(status -> {
+                String imgUrl = null;
+                if (stagedImage != null) {
+                    imgUrl = stagedImage.getImgUrl();
+                    completeWithTransaction(stagedImage);
+                }
+                return dbWork.apply(imgUrl);
+            }));
+        } catch (RuntimeException | Error e) {
+            // 트랜잭션 시작 전에 실패한 경우까지 정리 (중복 삭제는 무해)
+            imageService.discardImg(stagedImage);
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 이미지를 반환한다 (content-addressed 파일은 참조 수 감소).
+     * 새 이미지 promote보다 나중에 등록되므로, 같은 내용으로 교체해도 참조 수가 0을 거치지 않는다.
+     */
+    public void releaseAfterCommit(String imgUrl) {
+        if (imgUrl == null || imgUrl.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            imageService.releaseImg(imgUrl);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageService.releaseImg(imgUrl);
+            }
+        });
+    }
+
+    private void completeWithTransaction(StagedImage stagedImage) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private StagedImage current = stagedImage;
+
+            // 여기서 실패하면 커밋하지 않는다. 커밋된 행의 이미지는 항상 최종 위치나 대기 파일 중 한 곳에 있다
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                current = imageService.markPending(stagedImage);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    promote(current, 1);
+                } else {
+                    imageService.discardImg(current);
+                }
+            }
+        });
+    }
+
+    // 재시작 전에 옮기지 못한 대기 파일을 재시도 대기열로 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingPromotions() {
+        List<StagedImage> pending = imageService.findPendingImgs();
+        for (StagedImage stagedImage : pending) {
+            pendingPromotions.add(new PendingPromotion(stagedImage, 0));
+        }
+        if (!pending.isEmpty()) {
+            log.info("Recovered {} staged images waiting for promotion", pending.size());
+        }
+    }
+
+    // 실패하면 임시 파일은 그대로 두고 재시도 대기열에 넣는다
+    private void promote(StagedImage stagedImage, int attempt) {
+        try {
+            imageService.promoteImg(stagedImage);
+        } catch (RuntimeException e) {
+            promoteFailedCounter.increment();
+            if (attempt >= MAX_PROMOTE_ATTEMPTS) {
+                promoteAbandonedCounter.increment();
+                log.error("Giving up promoting staged image {} -> {} after {} attempts, leaving it for the next restart",
+                        stagedImage.getStagedFile(), stagedImage.getImgUrl(), attempt, e);
+                return;
+            }
+            log.warn("Failed to promote staged image {} -> {} (attempt {}), will retry",
+                    stagedImage.getStagedFile(), stagedImage.getImgUrl(), attempt, e);
+            pendingPromotions.add(new PendingPromotion(stagedImage, attempt));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.upload.promote-retry-interval-ms:10000}")
+    public void retryFailedPromotions() {
+        // 이번 회차에 다시 실패한 항목은 다음 회차에 시도한다
+        for (int i = pendingPromotions.size(); i > 0; i--) {
+            PendingPromotion pending = pendingPromotions.poll();
+            if (pending == null) {
+                return;
+            }
+            promote(pending.getStagedImage(), pending.getAttempts() + 1);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingPromotion {
+        private final StagedImage stagedImage;
+        private final int attempts;
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.spring_practice.domain.shared;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지의 리사이즈 변형(AVATAR/THUMBNAIL/LARGE)을 백그라운드에서 만든다.
+ * 고정 크기 풀과 제한된 큐에서만 돌고, 큐가 가득 차면 해당 이미지는 건너뛴다 (원본으로 대체 제공).
+ * 변형 파일명은 원본 이름에 {@code _<px>}를 붙인 형태다. 예: {@code ab/cd/<hash>_320.jpg}
+ * 디코딩 전에 헤더로 크기를 확인해, 픽셀 수가 max-pixels를 넘는 이미지는 변형을 만들지 않는다.
+ * 변형 경로 조회 결과는 확정된 것(변형 생성 완료, 원본으로 대체)만 계속 기억하고,
+ * "아직 없음"은 miss-ttl 동안만 기억한다. 생성이 끝나면 바로 확정 결과로 바뀐다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+    private static final ImageSize[] VARIANT_SIZES = {ImageSize.AVATAR, ImageSize.THUMBNAIL, ImageSize.LARGE};
+    private static final Set<String> WRITABLE_FORMATS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    private final Path root;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+    // 변형 경로 → 실제 제공할 경로 (변형 또는 대신 제공할 원본). 다시 바뀌지 않는 결과만 넣는다
+    private final Cache<String, String> ready;
+    // 아직 변형이 없는 경로. 큐 포화/생성 실패로 영영 생기지 않을 수도 있어 잠시만 기억한다
+    private final Cache<String, Boolean> missing;
+    private final Counter generatedCounter;
+    private final Counter droppedCounter;
+    private final Counter oversizedCounter;
+
+    public ImageVariantGenerator(@Value("${file.upload.path}") String uploadPath,
+                                 @Value("${file.image-variant.threads:2}") int threads,
+                                 @Value("${file.image-variant.queue-capacity:100}") int queueCapacity,
+                                 @Value("${file.image-variant.cache-size:10000}") long cacheSize,
+                                 @Value("${file.image-variant.max-pixels:40000000}") long maxPixels,
+                                 @Value("${file.image-variant.miss-ttl-seconds:10}") long missTtlSeconds,
+                                 MeterRegistry meterRegistry) {
+        this.root = Paths.get(uploadPath);
+        this.maxPixels = maxPixels;
+        this.ready = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(missTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new VariantThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.generatedCounter = Counter.builder("image.variant.generated")
+                .description("생성된 이미지 변형 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("image.variant.dropped")
+                .description("큐 포화로 건너뛴 이미지 수")
+                .register(meterRegistry);
+        this.oversizedCounter = Counter.builder("image.variant.oversized")
+                .description("픽셀 수 제한을 넘어 디코딩하지 않은 이미지 수")
+                .register(meterRegistry);
+        Gauge.builder("image.variant.queue.depth", executor, e -> e.getQueue().size())
+                .description("대기 중인 변형 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 원본(업로드 루트 기준 상대 경로)의 변형 생성을 예약한다.
+     */
+    public void submit(String imgUrl) {
+        if (formatOf(imgUrl) == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(imgUrl));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.warn("Image variant queue full, skipping {}", imgUrl);
+        }
+    }
+
+    /**
+     * 요청한 크기의 변형이 준비됐으면 그 경로를, 아니면 원본 경로를 반환한다.
+     */
+    public String resolve(String imgUrl, ImageSize size) {
+        if (size == ImageSize.ORIGINAL || formatOf(imgUrl) == null) {
+            return imgUrl;
+        }
+        String variant = variantPath(imgUrl, size);
+        String resolved = ready.getIfPresent(variant);
+        if (resolved != null) {
+            return resolved;
+        }
+        if (missing.getIfPresent(variant) != null) {
+            return imgUrl;
+        }
+        // 재시작 등으로 기록이 없으면 디스크에서 확인
+        if (Files.exists(root.resolve(variant))) {
+            ready.put(variant, variant);
+            return variant;
+        }
+        missing.put(variant, Boolean.TRUE);
+        return imgUrl;
+    }
+
+    /**
+     * 원본 삭제 시 변형 파일도 함께 지운다.
+     */
+    public void delete(String imgUrl) {
+        if (formatOf(imgUrl) == null) {
+            return;
+        }
+        for (ImageSize size : VARIANT_SIZES) {
+            String variant = variantPath(imgUrl, size);
+            ready.invalidate(variant);
+            missing.invalidate(variant);
+            try {
+                Files.deleteIfExists(root.resolve(variant));
+            } catch (IOException e) {
+                log.warn("Failed to delete image variant {}", variant, e);
+            }
+        }
+    }
+
+    void generate(String imgUrl) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(root.resolve(imgUrl).toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                generate(imgUrl, reader);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for {}", imgUrl, e);
+        }
+    }
+
+    private void generate(String imgUrl, ImageReader reader) throws IOException {
+        // 헤더만 읽어 크기를 확인한 뒤 필요할 때만 디코딩한다
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        int longSide = Math.max(width, height);
+        boolean needsVariant = false;
+        for (ImageSize size : VARIANT_SIZES) {
+            if (longSide <= size.getMaxDimension()) {
+                // 원본이 더 작으면 원본을 그대로 제공
+                markReady(variantPath(imgUrl, size), imgUrl);
+            } else {
+                needsVariant = true;
+            }
+        }
+        if (!needsVariant) {
+            return;
+        }
+        if ((long) width * height > maxPixels) {
+            oversizedCounter.increment();
+            log.warn("Image too large for variants ({}x{}), skipping {}", width, height, imgUrl);
+            for (ImageSize size : VARIANT_SIZES) {
+                markReady(variantPath(imgUrl, size), imgUrl);
+            }
+            return;
+        }
+
+        BufferedImage original = reader.read(0);
+        String format = formatOf(imgUrl);
+        for (ImageSize size : VARIANT_SIZES) {
+            if (longSide <= size.getMaxDimension()) {
+                continue;
+            }
+            String variant = variantPath(imgUrl, size);
+            Path target = root.resolve(variant);
+            if (!Files.exists(target)) {
+                write(resize(original, size.getMaxDimension(), format), format, target);
+                generatedCounter.increment();
+            }
+            markReady(variant, variant);
+        }
+    }
+
+    private void markReady(String variant, String resolved) {
+        ready.put(variant, resolved);
+        missing.invalidate(variant);
+    }
+
+    // 긴 변을 maxDimension에 맞춘다. 크게 줄일 때는 절반씩 단계적으로 줄여 품질 저하를 줄인다
+    private static BufferedImage resize(BufferedImage source, int maxDimension, String format) {
+        double scale = (double) maxDimension / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        int type = isOpaqueFormat(format) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = draw(current, width, height, type);
+        }
+        return draw(current, targetWidth, targetHeight, type);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    // 임시 파일에 쓴 뒤 옮겨 반쯤 쓰인 파일이 제공되지 않게 한다
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        if (!ImageIO.write(image, format, temp.toFile())) {
+            Files.deleteIfExists(temp);
+            throw new IOException("No ImageIO writer for " + format);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static String variantPath(String imgUrl, ImageSize size) {
+        int dot = imgUrl.lastIndexOf('.');
+        return imgUrl.substring(0, dot) + "_" + size.getMaxDimension() + imgUrl.substring(dot);
+    }
+
+    private static String formatOf(String imgUrl) {
+        if (imgUrl == null) {
+            return null;
+        }
+        int dot = imgUrl.lastIndexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        String extension = imgUrl.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return WRITABLE_FORMATS.contains(extension) ? ("jpeg".equals(extension) ? "jpg" : extension) : null;
+    }
+
+    private static boolean isOpaqueFormat(String format) {
+        return "jpg".equals(format) || "bmp".equals(format);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class VariantThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -4,55 +4,222 @@ import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 
+/**
+ * 로컬 디스크 이미지 저장소.
+ * content-addressed 모드에서는 업로드를 SHA-256으로 해시하면서 임시 파일로 복사한 뒤 {@code ab/cd/<hash>.<ext>}로 원자적으로 옮긴다.
+ * 같은 내용은 한 번만 저장하고, 옆에 둔 {@code .ref} 파일에 참조 수를 기록한다.
+ * 기존 UUID 파일명은 그대로 두므로 getFullImgUrl은 두 형식 모두 같은 방식으로 동작한다.
+ * 두 모드 모두 stageImg로 {@code .tmp}에 먼저 쓰고, promoteImg에서 최종 위치로 옮긴다 (DB 트랜잭션 밖에서 파일 I/O를 끝내기 위함).
+ * 커밋 직전에는 markPending으로 {@code <최종 경로(Base64)>.<임시 이름>.pending}으로 이름을 바꿔,
+ * 커밋됐지만 아직 옮기지 못한 파일을 재시작 후에도 찾을 수 있게 하고 오래된 임시 파일 정리에서 제외한다.
+ */
 @Slf4j
 @Service
 public class LocalImageService implements ImageService {
+    private static final String MODE_CONTENT_ADDRESSED = "content-addressed";
+    private static final String TEMP_DIR = ".tmp";
+    private static final String REF_SUFFIX = ".ref";
+    private static final String STAGING_SUFFIX = ".part";
+    private static final String PENDING_SUFFIX = ".pending";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+    private static final long STAGED_FILE_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.[A-Za-z0-9]{1,10}");
 
-    @Value("${file.upload.path}")
-    private String uploadPath;  // 예: /Users/username/uploads
+    private final String uploadPath;  // 예: /Users/username/uploads
+    private final String uploadUrl;   // 예: http://localhost:8080/images
+    private final boolean contentAddressed;
+    private final ImageVariantGenerator variantGenerator;
+    // 잠근 채로 파일 I/O를 한다 (가상 스레드 고정을 피해 synchronized 대신 ReentrantLock)
+    private final ReentrantLock[] refLocks = new ReentrantLock[LOCK_STRIPES];
 
-    @Value("${file.upload.url}")
-    private String uploadUrl;   // 예: http://localhost:8080/images
+    public LocalImageService(@Value("${file.upload.path}") String uploadPath,
+                             @Value("${file.upload.url}") String uploadUrl,
+                             @Value("${file.upload.mode:uuid}") String mode,
+                             ImageVariantGenerator variantGenerator) {
+        this.uploadPath = uploadPath;
+        this.uploadUrl = uploadUrl;
+        this.contentAddressed = MODE_CONTENT_ADDRESSED.equals(mode);
+        this.variantGenerator = variantGenerator;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            refLocks[i] = new ReentrantLock();
+        }
+    }
 
     @Override
     public String saveImg(MultipartFile file) {
+        StagedImage stagedImage = stageImg(file);
+        if (stagedImage == null) {
+            return null;
+        }
+        promoteImg(stagedImage);
+        return stagedImage.getImgUrl();
+    }
+
+    @Override
+    public StagedImage stageImg(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             return null;
         }
 
         try {
-            // 업로드 디렉토리 생성
-            File uploadDir = new File(uploadPath);
-            if (!uploadDir.exists()) {
-                uploadDir.mkdirs();
+            // 임시 파일은 업로드 디렉토리 안에 두어 promote가 같은 파일시스템 안의 이동이 되게 한다
+            Path tempDir = Files.createDirectories(Paths.get(uploadPath).resolve(TEMP_DIR));
+            Path tempFile = Files.createTempFile(tempDir, "upload-", STAGING_SUFFIX);
+            try {
+                String filePath;
+                if (contentAddressed) {
+                    // 복사하면서 해시 계산 (업로드를 한 번만 읽는다)
+                    String hash = copyAndDigest(file, tempFile);
+                    filePath = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extensionOf(file.getOriginalFilename()).toLowerCase(Locale.ROOT);
+                } else {
+                    // 고유한 파일명 생성 (UUID + 원본 확장자)
+                    filePath = UUID.randomUUID() + extensionOf(file.getOriginalFilename());
+                    file.transferTo(tempFile);
+                }
+                return new StagedImage(tempFile, filePath);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
             }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        }
+    }
 
-            // 고유한 파일명 생성 (UUID + 원본 확장자)
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String filePath = UUID.randomUUID() + extension;
-
-            // 파일 저장
-            Path destinationPath = Paths.get(uploadPath, filePath);
-            file.transferTo(destinationPath.toFile());
+    @Override
+    public StagedImage markPending(StagedImage stagedImage) {
+        if (stagedImage == null) {
+            return null;
+        }
+        Path stagedFile = stagedImage.getStagedFile();
+        String stagedName = stagedFile.getFileName().toString();
+        if (stagedName.endsWith(PENDING_SUFFIX)) {
+            return stagedImage;
+        }
+        String encodedImgUrl = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(stagedImage.getImgUrl().getBytes(StandardCharsets.UTF_8));
+        Path pendingFile = stagedFile.resolveSibling(encodedImgUrl + "."
+                + stagedName.substring(0, stagedName.length() - STAGING_SUFFIX.length()) + PENDING_SUFFIX);
+        try {
+            Files.move(stagedFile, pendingFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 대기 상태로 남기지 못하면 커밋하지 않는다 (호출한 트랜잭션이 롤백된다)
+            throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        }
+        return new StagedImage(pendingFile, stagedImage.getImgUrl());
+    }
 
-            return filePath;
+    @Override
+    public List<StagedImage> findPendingImgs() {
+        Path tempDir = Paths.get(uploadPath).resolve(TEMP_DIR);
+        List<StagedImage> pending = new ArrayList<>();
+        if (!Files.isDirectory(tempDir)) {
+            return pending;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDir, "*" + PENDING_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    String imgUrl = new String(Base64.getUrlDecoder().decode(name.substring(0, name.indexOf('.'))), StandardCharsets.UTF_8);
+                    pending.add(new StagedImage(file, imgUrl));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring pending image with unreadable name {}", file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list pending images", e);
+        }
+        return pending;
+    }
 
+    @Override
+    public void promoteImg(StagedImage stagedImage) {
+        if (stagedImage == null) {
+            return;
+        }
+        Path tempFile = stagedImage.getStagedFile();
+        Path target = Paths.get(uploadPath).resolve(stagedImage.getImgUrl());
+        try {
+            if (contentAddressed) {
+                ReentrantLock lock = lockFor(target);
+                lock.lock();
+                try {
+                    if (Files.exists(target)) {
+                        // 이미 같은 내용이 있으면 쓰기 없이 참조 수만 증가
+                        Files.deleteIfExists(tempFile);
+                    } else {
+                        Files.createDirectories(target.getParent());
+                        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                    Path refFile = refFileOf(target);
+                    writeRefCount(refFile, readRefCount(refFile) + 1);
+                } finally {
+                    lock.unlock();
+                }
+            } else {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
         } catch (IOException e) {
             throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
         }
+
+        // 리사이즈 변형은 백그라운드에서 생성
+        variantGenerator.submit(stagedImage.getImgUrl());
+    }
+
+    @Override
+    public void discardImg(StagedImage stagedImage) {
+        if (stagedImage == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(stagedImage.getStagedFile());
+        } catch (IOException e) {
+            log.warn("Failed to discard staged image {}", stagedImage.getStagedFile(), e);
+        }
+    }
+
+    // promote/discard 되지 못한 임시 파일 (비정상 종료 등) 정리.
+    // 커밋 전 단계(.part)만 지운다. 커밋된 대기 파일(.pending)은 DB가 가리키고 있으므로 promote될 때까지 둔다
+    @Scheduled(fixedDelayString = "${file.upload.staging-cleanup-interval-ms:3600000}")
+    public void purgeStaleStagedFiles() {
+        Path tempDir = Paths.get(uploadPath).resolve(TEMP_DIR);
+        if (!Files.isDirectory(tempDir)) {
+            return;
+        }
+        long threshold = System.currentTimeMillis() - STAGED_FILE_TTL_MILLIS;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDir, "*" + STAGING_SUFFIX)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toMillis() < threshold) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to purge staged images", e);
+        }
     }
 
     @Override
@@ -62,4 +229,109 @@ public class LocalImageService implements ImageService {
         }
         return uploadUrl + "/" + imgUrl;
     }
+
+    @Override
+    public String getFullImgUrl(String imgUrl, ImageSize size) {
+        if (imgUrl == null || imgUrl.isEmpty()) {
+            return null;
+        }
+        // 변형이 아직 없으면 원본 URL
+        return getFullImgUrl(variantGenerator.resolve(imgUrl, size));
+    }
+
+    @Override
+    public void releaseImg(String imgUrl) {
+        if (imgUrl == null || imgUrl.isEmpty()) {
+            return;
+        }
+        Path target = Paths.get(uploadPath).resolve(imgUrl).normalize();
+        try {
+            if (!isContentAddressedPath(imgUrl)) {
+                // UUID 파일은 한 곳에서만 참조한다
+                Files.deleteIfExists(target);
+                variantGenerator.delete(imgUrl);
+                return;
+            }
+            ReentrantLock lock = lockFor(target);
+            lock.lock();
+            try {
+                Path refFile = refFileOf(target);
+                long count = readRefCount(refFile) - 1;
+                if (count > 0) {
+                    writeRefCount(refFile, count);
+                } else {
+                    Files.deleteIfExists(target);
+                    Files.deleteIfExists(refFile);
+                    variantGenerator.delete(imgUrl);
+                }
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to release image {}", imgUrl, e);
+        }
+    }
+
+    private static String copyAndDigest(MultipartFile file, Path tempFile) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+             FileChannel out = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.array(), 0, buffer.limit());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+            out.force(false);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static long readRefCount(Path refFile) throws IOException {
+        if (!Files.exists(refFile)) {
+            return 0;
+        }
+        String value = Files.readString(refFile, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    // 임시 파일에 쓴 뒤 교체해 중간 상태가 보이지 않게 한다
+    private static void writeRefCount(Path refFile, long count) throws IOException {
+        Path temp = refFile.resolveSibling(refFile.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(count), StandardCharsets.UTF_8);
+        Files.move(temp, refFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Path refFileOf(Path target) {
+        return target.resolveSibling(target.getFileName() + REF_SUFFIX);
+    }
+
+    private ReentrantLock lockFor(Path target) {
+        return refLocks[Math.floorMod(target.getFileName().toString().hashCode(), LOCK_STRIPES)];
+    }
+
+    // content-addressed 경로는 ab/cd/<hash>.<ext> 형태
+    private static boolean isContentAddressedPath(String imgUrl) {
+        return imgUrl.length() > 6 && imgUrl.charAt(2) == '/' && imgUrl.charAt(5) == '/';
+    }
+
+    // 확장자는 영숫자만 허용 (경로 조작 방지)
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null || originalFilename.lastIndexOf(".") < 0) {
+            return "";
+        }
+        String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        return EXTENSION_PATTERN.matcher(extension).matches() ? extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.spring_practice.domain.shared;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * 임시 위치에 먼저 써 둔 업로드 이미지.
+ * imgUrl은 promote 후의 최종 경로로, DB에는 이 값을 저장한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StagedImage {
+    private final Path stagedFile;
+    private final String imgUrl;
+}
@@ -0,0 +1,284 @@
+package com.example.spring_practice.global.config;
+
+import com.example.spring_practice.global.log.AccessLogEntry;
+import com.example.spring_practice.global.log.AccessLogWriter;
+import com.example.spring_practice.global.metrics.RequestSqlStats;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 메서드, 경로 템플릿, 상태 코드, 응답 바이트, 지연 시간, SQL 실행 수/시간, 회원 ID를 접근 로그로 남긴다.
+ * SQL 실행 수/시간은 경로 템플릿별 메트릭(http.server.requests.sql.*)으로도 기록해 N+1이 있는 엔드포인트를 찾을 수 있게 한다.
+ * 기록은 AccessLogWriter에 넘기기만 하므로 요청 스레드는 디스크 I/O를 기다리지 않는다.
+ * 이미지(/images/**) 정상 응답은 요청 수가 많아 access-log.image-sample-rate 비율만 남긴다 (에러는 모두 기록).
+ * 비동기 응답(StreamingResponseBody)은 처음 디스패치에서 기록하지 않고, 완료 후 ASYNC 디스패치에서
+ * 전체 시간/바이트/SQL(비동기 스레드 포함, RequestSqlStatsCallableInterceptor)로 한 번 기록한다.
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final String IMAGE_PATH_PREFIX = "/images/";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final String ASYNC_STATE_ATTRIBUTE = AccessLogFilter.class.getName() + ".ASYNC_STATE";
+
+    private final AccessLogWriter accessLogWriter;
+    private final MeterRegistry meterRegistry;
+    private final double imageSampleRate;
+
+    public AccessLogFilter(AccessLogWriter accessLogWriter,
+                           MeterRegistry meterRegistry,
+                           @Value("${access-log.image-sample-rate:0.1}") double imageSampleRate) {
+        this.accessLogWriter = accessLogWriter;
+        this.meterRegistry = meterRegistry;
+        this.imageSampleRate = imageSampleRate;
+    }
+
+    // 비동기 응답이 끝난 뒤의 ASYNC 디스패치에서 기록을 마무리해야 하므로 건너뛰지 않는다
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        AsyncState asyncState = (AsyncState) request.getAttribute(ASYNC_STATE_ATTRIBUTE);
+        if (isAsyncDispatch(request) && asyncState != null) {
+            completeAsync(request, response, filterChain, asyncState);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        RequestSqlStats sqlStats = RequestSqlStats.begin();
+        request.setAttribute(RequestSqlStats.REQUEST_ATTRIBUTE, sqlStats);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, countingResponse);
+            failed = false;
+        } finally {
+            RequestSqlStats.end();
+            if (!failed && request.isAsyncStarted()) {
+                // 본문은 비동기 스레드가 이 래퍼로 쓴다. 완료 디스패치에서 기록
+                // ASYNC 디스패치에서는 JwtFilter가 다시 돌지 않으므로 회원 ID도 지금 담아 둔다
+                request.setAttribute(ASYNC_STATE_ATTRIBUTE, new AsyncState(startedAt, countingResponse, sqlStats, currentMemberId()));
+            } else {
+                // 처리되지 않은 예외는 컨테이너가 500으로 응답한다
+                record(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : countingResponse.getStatus(),
+                        countingResponse, startedAt, sqlStats, currentMemberId());
+            }
+        }
+    }
+
+    private void completeAsync(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, AsyncState asyncState) throws ServletException, IOException {
+        RequestSqlStats.resume(asyncState.sqlStats);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            RequestSqlStats.end();
+            request.removeAttribute(ASYNC_STATE_ATTRIBUTE);
+            CountingResponseWrapper countingResponse = asyncState.countingResponse;
+            record(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : countingResponse.getStatus(),
+                    countingResponse, asyncState.startedAt, asyncState.sqlStats, asyncState.memberId);
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, CountingResponseWrapper countingResponse,
+                        long startedAt, RequestSqlStats sqlStats, Long memberId) {
+        String route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        recordSqlMetrics(request.getMethod(), route, sqlStats);
+
+        if (accessLogWriter.isEnabled() && shouldRecord(request, status)) {
+            accessLogWriter.offer(new AccessLogEntry(
+                    Instant.now(),
+                    request.getMethod(),
+                    route,
+                    request.getRequestURI(),
+                    status,
+                    bytesWritten(request, countingResponse),
+                    (System.nanoTime() - startedAt) / 1_000,
+                    sqlStats.getStatements(),
+                    sqlStats.getElapsedNanos() / 1_000,
+                    memberId));
+        }
+    }
+
+    // SQL이 없는 요청(이미지 등)은 건너뛴다
+    private void recordSqlMetrics(String method, String route, RequestSqlStats sqlStats) {
+        if (sqlStats.getStatements() == 0) {
+            return;
+        }
+        Tags tags = Tags.of("method", method, "uri", route != null ? route : UNKNOWN_ROUTE);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("요청당 실행한 SQL 문 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sqlStats.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("요청당 SQL 실행 시간 합계")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sqlStats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private boolean shouldRecord(HttpServletRequest request, int status) {
+        if (status >= 400 || !request.getRequestURI().startsWith(request.getContextPath() + IMAGE_PATH_PREFIX)) {
+            return true;
+        }
+        return ThreadLocalRandom.current().nextDouble() < imageSampleRate;
+    }
+
+    // sendfile로 보낸 본문은 스트림을 거치지 않으므로 예약된 범위로 계산
+    private static long bytesWritten(HttpServletRequest request, CountingResponseWrapper response) {
+        if (request.getAttribute(SENDFILE_START) instanceof Long start
+                && request.getAttribute(SENDFILE_END) instanceof Long end) {
+            return response.getBytesWritten() + (end - start);
+        }
+        return response.getBytesWritten();
+    }
+
+    // SecurityContextHolderFilter보다 안쪽에서 실행되므로 아직 인증 정보가 남아 있다
+    private static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getMemberId();
+        }
+        return null;
+    }
+
+    // 처음 디스패치에서 ASYNC 디스패치로 넘기는 기록 상태
+    private static class AsyncState {
+        private final long startedAt;
+        private final CountingResponseWrapper countingResponse;
+        private final RequestSqlStats sqlStats;
+        private final Long memberId;
+
+        AsyncState(long startedAt, CountingResponseWrapper countingResponse, RequestSqlStats sqlStats, Long memberId) {
+            this.startedAt = startedAt;
+            this.countingResponse = countingResponse;
+            this.sqlStats = sqlStats;
+            this.memberId = memberId;
+        }
+    }
+
+    /**
+     * 응답 본문 크기를 세는 래퍼. getWriter로 쓴 본문은 문자 수로 센다.
+     */
+    private static class CountingResponseWrapper extends HttpServletResponseWrapper {
+        private long bytesWritten;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new CountingWriter(super.getWriter());
+            }
+            return writer;
+        }
+
+        private class CountingOutputStream extends ServletOutputStream {
+            private final ServletOutputStream delegate;
+
+            CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                bytesWritten++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                bytesWritten += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        private class CountingWriter extends PrintWriter {
+            CountingWriter(PrintWriter delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public void write(int c) {
+                super.write(c);
+                bytesWritten++;
+            }
+
+            @Override
+            public void write(char[] buf, int off, int len) {
+                super.write(buf, off, len);
+                bytesWritten += len;
+            }
+
+            @Override
+            public void write(String s, int off, int len) {
+                super.write(s, off, len);
+                bytesWritten += len;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.spring_practice.global.config;
+
+import com.example.spring_practice.global.util.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * db.concurrency-limit.enabled=true면 DataSource를 ConcurrencyLimitedDataSource로 감싼다.
+ * 가상 스레드 모드(virtual-threads 프로필)에서 켜며, 허가 수는 Hikari maximum-pool-size와 같게 둔다.
+ * 읽기/쓰기 라우팅을 켜면 여기서는 감싸지 않고 DataSourceRoutingConfig가 primary/replica 풀마다 따로 감싼다
+ * (라우팅 DataSource 하나를 감싸면 replica 읽기까지 primary 풀 크기로 묶인다).
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 등록하고 MeterRegistry는 나중에 꺼낸다
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${db.concurrency-limit.permits:10}") int permits,
+            @Value("${db.concurrency-limit.timeout-ms:3000}") long timeoutMillis,
+            @Value("${datasource.routing.enabled:false}") boolean routingEnabled,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!routingEnabled && bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, beanName, permits, timeoutMillis, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
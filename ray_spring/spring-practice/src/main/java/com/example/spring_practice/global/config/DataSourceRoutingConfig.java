@@ -0,0 +1,130 @@
+package com.example.spring_practice.global.config;
+
+import com.example.spring_practice.global.datasource.ReadWriteRoutingDataSource;
+import com.example.spring_practice.global.datasource.ReplicaPool;
+import com.example.spring_practice.global.datasource.ReplicationLagGuard;
+import com.example.spring_practice.global.util.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.routing.enabled=true면 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 replica로 보낸다.
+ * primary는 spring.datasource.*, replica는 datasource.routing.replica-urls(쉼표 구분)로 설정하고
+ * 풀 설정(spring.datasource.hikari.*)은 primary와 같게 쓰되, replica는 connection-timeout을 짧게 둔다
+ * (replica가 막히면 오래 기다리지 않고 primary로 넘어가도록).
+ * 커넥션 풀은 빈으로 등록하지 않고 LazyConnectionDataSourceProxy 하나만 DataSource 빈으로 노출한다 (p6spy가 풀마다 중복으로 감싸지 않도록).
+ * db.concurrency-limit.enabled면 동시성 제한도 풀마다 따로 건다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements DisposableBean {
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final boolean concurrencyLimitEnabled;
+    private final int concurrencyLimitPermits;
+    private final long concurrencyLimitTimeoutMillis;
+
+    public DataSourceRoutingConfig(@Value("${db.concurrency-limit.enabled:false}") boolean concurrencyLimitEnabled,
+                                   @Value("${db.concurrency-limit.permits:10}") int concurrencyLimitPermits,
+                                   @Value("${db.concurrency-limit.timeout-ms:3000}") long concurrencyLimitTimeoutMillis) {
+        this.concurrencyLimitEnabled = concurrencyLimitEnabled;
+        this.concurrencyLimitPermits = concurrencyLimitPermits;
+        this.concurrencyLimitTimeoutMillis = concurrencyLimitTimeoutMillis;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceProperties properties,
+                                   Environment environment,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${datasource.routing.replica-urls:}") List<String> replicaUrls,
+                                   @Value("${datasource.routing.replica-username:${spring.datasource.username:}}") String replicaUsername,
+                                   @Value("${datasource.routing.replica-password:${spring.datasource.password:}}") String replicaPassword,
+                                   @Value("${datasource.routing.replica-connection-timeout-ms:1000}") long replicaConnectionTimeoutMillis) {
+        HikariConfig base = hikariConfig(properties, environment);
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            base.copyStateTo(config);
+            config.setJdbcUrl(url.trim());
+            config.setUsername(replicaUsername);
+            config.setPassword(replicaPassword);
+            config.setConnectionTimeout(replicaConnectionTimeoutMillis);
+            config.setPoolName("replica-" + replicas.size());
+            replicas.add(pool(config, meterRegistry));
+        }
+        ReplicaPool replicaPool = new ReplicaPool(replicas);
+        Gauge.builder("db.replica.healthy", replicaPool, ReplicaPool::healthyCount)
+                .description("라우팅 대상인 정상 replica 수")
+                .register(meterRegistry);
+        return replicaPool;
+    }
+
+    @Bean
+    public ReplicationLagGuard replicationLagGuard(@Value("${datasource.routing.lag-window-ms:3000}") long lagWindowMillis) {
+        return new ReplicationLagGuard(Duration.ofMillis(lagWindowMillis));
+    }
+
+    // 트랜잭션 시작 시점엔 readOnly 여부가 아직 동기화되지 않으므로 첫 SQL까지 커넥션 선택을 미룬다
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 ReplicaPool replicaPool,
+                                 ReplicationLagGuard replicationLagGuard) {
+        HikariConfig config = hikariConfig(properties, environment);
+        config.setPoolName("primary");
+        DataSource primary = pool(config, meterRegistry);
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaPool, replicationLagGuard, meterRegistry));
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private static HikariConfig hikariConfig(DataSourceProperties properties, Environment environment) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        return config;
+    }
+
+    // 빈이 아니라 자동 메트릭 등록이 안 되므로 hikaricp.* 메트릭을 직접 연결
+    private DataSource pool(HikariConfig config, MeterRegistry meterRegistry) {
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        HikariDataSource dataSource = new HikariDataSource(config);
+        pools.add(dataSource);
+        if (!concurrencyLimitEnabled) {
+            return dataSource;
+        }
+        return new ConcurrencyLimitedDataSource(dataSource, config.getPoolName(),
+                concurrencyLimitPermits, concurrencyLimitTimeoutMillis, meterRegistry);
+    }
+}
@@ -1,41 +1,54 @@
 package com.example.spring_practice.global.config;
 
-import com.example.spring_practice.global.response.CustomException;
-import com.example.spring_practice.global.response.ErrorCode;
 import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberPrincipal;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 인증이 필요 없는 경로는 토큰 검증 자체를 건너뛴다
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : SecurityConfig.PERMIT_ALL_PATTERNS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         // 토큰 추출
         String token = getToken(request);
 
-        // 인증
-        if (token != null && jwtUtil.validateToken(token)) {
-            String email = jwtUtil.getEmailFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        // 인증 (토큰은 한 번만 파싱하고 클레임만 사용, 회원 조회 없음)
+        MemberPrincipal principal = token != null ? jwtUtil.resolvePrincipal(token) : null;
+        if (principal != null) {
             Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails,
+                    principal,
                     null,
-                    userDetails.getAuthorities()
+                    List.of(new SimpleGrantedAuthority(principal.getRole()))
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
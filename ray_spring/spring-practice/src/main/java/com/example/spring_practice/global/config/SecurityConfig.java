@@ -1,7 +1,11 @@
 package com.example.spring_practice.global.config;
 
+import com.example.spring_practice.global.security.PasswordHashingPool;
+import com.example.spring_practice.global.security.PooledPasswordEncoder;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 //import org.springframework.web.filter.CorsFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,8 +31,20 @@ import java.util.List;
 @RequiredArgsConstructor
 @EnableMethodSecurity
 public class SecurityConfig {
+    // 인증 없이 접근 가능한 경로 (JwtFilter도 이 경로는 건너뛴다)
+    static final String[] PERMIT_ALL_PATTERNS = {
+            "/auth/login",
+            "/auth/signup",
+            "/users/email/duplicate-check",
+            "/users/nickname/duplicate-check",
+            "/images/**",
+            // 헬스체크/Prometheus 수집. actuator는 별도 관리 포트(management.server.port)에서만 열린다
+            "/actuator/health", "/actuator/prometheus",
+            "/swagger", "/swagger-ui.html", "/swagger-ui/**", "/api-docs", "/api-docs/**", "/v3/api-docs/**"
+    };
+
     private final JwtFilter jwtFilter;
-    private final LoggingFilter loggingFilter;
+    private final AccessLogFilter accessLogFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -40,23 +56,22 @@ public class SecurityConfig {
                     .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                  )
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/auth/login",
-                                "/auth/signup",
-                                "/users/email/duplicate-check",
-                                "/users/nickname/duplicate-check",
-                                "/images/**",
-                                "/swagger", "/swagger-ui.html", "/swagger-ui/**", "/api-docs", "/api-docs/**", "/v3/api-docs/**").permitAll()
+                        // 스트리밍 응답 완료 후의 ASYNC 디스패치는 처음 디스패치에서 이미 인가됐다 (JwtFilter는 다시 돌지 않는다)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(PERMIT_ALL_PATTERNS).permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(loggingFilter, CorsFilter.class)
+                .addFilterBefore(accessLogFilter, CorsFilter.class)
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
+    // BCrypt 연산은 전용 풀에서 실행.
+    // cost를 올리면 기존 회원은 다음 로그인 때 새 cost로 재해시된다 (CustomMemberDetailsService.updatePassword)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength,
+                                           PasswordHashingPool passwordHashingPool) {
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingPool);
     }
 
     @Bean
@@ -1,11 +1,11 @@
 package com.example.spring_practice.global.config;
 
 
-import org.springframework.beans.factory.annotation.Value;
+import com.example.spring_practice.global.metrics.RequestSqlStatsCallableInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -34,12 +34,11 @@ public class WebConfig implements WebMvcConfigurer {
 
  */
 
-    @Value("${file.upload.path}")
-    private String uploadPath;
+    // 업로드 이미지(/images/**)는 캐시/ETag/Range 처리를 위해 ImageController가 직접 제공한다
 
+    // 스트리밍 응답 스레드에서 실행한 SQL도 요청별 SQL 집계(접근 로그, 메트릭)에 포함
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/images/**")  // 👈 이 부분이
-                .addResourceLocations("file:" + uploadPath + "/");
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new RequestSqlStatsCallableInterceptor());
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.example.spring_practice.global.datasource;
+
+import com.example.spring_practice.global.security.MemberPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource.
+ * 트랜잭션 속성이 정해진 뒤 첫 SQL 시점에 커넥션을 고를 수 있도록 LazyConnectionDataSourceProxy 안쪽에 둔다.
+ * primary로 가는 경우:
+ * - 쓰기 트랜잭션 (커밋되면 해당 회원을 ReplicationLagGuard에 기록)
+ * - 트랜잭션 밖의 SQL
+ * - 최근에 쓰기를 한 회원의 읽기 (복제 지연 보호)
+ * - RoutingHint.forcePrimary 안에서 실행한 읽기 (공유 캐시 채우기 등)
+ * - 정상인 replica가 없거나 replica 커넥션 획득에 실패한 경우
+ * replica로 보낸 트랜잭션의 Hibernate 세션은 CacheMode.GET으로 바꿔, 복제가 덜 된 데이터가 2차 캐시에 올라가지 않게 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+    private final ReplicationLagGuard lagGuard;
+    private final MeterRegistry meterRegistry;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool, ReplicationLagGuard lagGuard, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        this.lagGuard = lagGuard;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return primary("write");
+        }
+        if (lagGuard.recentlyWrote(currentMemberId())) {
+            return primary("read-your-writes");
+        }
+        if (RoutingHint.isPrimaryForced()) {
+            return primary("hint");
+        }
+        DataSource replica = replicaPool.next();
+        if (replica == null) {
+            return primary("no-replica");
+        }
+        try {
+            Connection connection = replica.getConnection();
+            count("replica", "read-only");
+            readCacheOnly();
+            return connection;
+        } catch (SQLException e) {
+            replicaPool.markDown(replica);
+            return primary("replica-failure");
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // 계정을 지정한 요청은 replica 계정과 맞는지 알 수 없으므로 primary로
+        count("primary", "credentials");
+        return primary.getConnection(username, password);
+    }
+
+    private Connection primary(String reason) throws SQLException {
+        count("primary", reason);
+        return primary.getConnection();
+    }
+
+    // 현재 트랜잭션에 묶인 세션이 2차 캐시를 읽기만 하고 채우지 않게 한다 (트랜잭션이 끝나면 세션도 닫힌다)
+    private static void readCacheOnly() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        }
+    }
+
+    private void recordWriteOnCommit() {
+        Long memberId = currentMemberId();
+        if (memberId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lagGuard.recordWrite(memberId);
+            }
+        });
+    }
+
+    private void count(String target, String reason) {
+        meterRegistry.counter("db.route", "target", target, "reason", reason).increment();
+    }
+
+    private static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getMemberId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.spring_practice.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * replica 커넥션 풀 목록. 정상인 replica를 라운드 로빈으로 고른다.
+ * 커넥션 획득에 실패한 replica는 바로 제외하고, 주기적인 상태 확인(checkHealth)으로 복구되면 다시 넣는다.
+ */
+@Slf4j
+public class ReplicaPool {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<DataSource> replicas;
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<DataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, 1);
+        }
+    }
+
+    /**
+     * 다음 차례의 정상 replica. 모두 비정상이거나 replica가 없으면 null
+     */
+    public DataSource next() {
+        int size = replicas.size();
+        for (int attempt = 0; attempt < size; attempt++) {
+            int index = Math.floorMod(next.getAndIncrement(), size);
+            if (healthy.get(index) == 1) {
+                return replicas.get(index);
+            }
+        }
+        return null;
+    }
+
+    public void markDown(DataSource replica) {
+        int index = replicas.indexOf(replica);
+        if (index >= 0 && healthy.getAndSet(index, 0) == 1) {
+            log.warn("replica-{} 제외 (커넥션 획득 실패)", index);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean up = isValid(replicas.get(i));
+            int previous = healthy.getAndSet(i, up ? 1 : 0);
+            if (previous == 1 && !up) {
+                log.warn("replica-{} 제외 (상태 확인 실패)", i);
+            } else if (previous == 0 && up) {
+                log.info("replica-{} 복구", i);
+            }
+        }
+    }
+
+    public int healthyCount() {
+        int count = 0;
+        for (int i = 0; i < healthy.length(); i++) {
+            count += healthy.get(i);
+        }
+        return count;
+    }
+
+    private static boolean isValid(DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.spring_practice.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 복제 지연 보호. 회원이 쓰기 트랜잭션을 커밋하면 lag-window 동안 그 회원의 읽기를 primary로 보낸다
+ * (방금 쓴 글/댓글이 replica에 아직 없어 보이지 않는 문제 방지).
+ * 기록은 이 인스턴스 메모리에만 있다. 인스턴스가 여러 대면 쓰기 직후 다른 인스턴스로 간 읽기는 replica로 갈 수 있으므로,
+ * 보장이 필요하면 로드밸런서의 세션 고정이나 공유 저장소(Redis 등)로 옮겨야 한다.
+ */
+public class ReplicationLagGuard {
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReplicationLagGuard(Duration lagWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(lagWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite(Long memberId) {
+        if (memberId != null) {
+            recentWriters.put(memberId, Boolean.TRUE);
+        }
+    }
+
+    public boolean recentlyWrote(Long memberId) {
+        return memberId != null && recentWriters.getIfPresent(memberId) != null;
+    }
+}
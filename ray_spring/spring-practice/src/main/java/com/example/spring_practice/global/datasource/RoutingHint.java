@@ -0,0 +1,32 @@
+package com.example.spring_practice.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 이 안에서 처음 잡는 커넥션은 primary로 보내게 하는 스레드 단위 힌트.
+ * 라우팅을 끈 경우에는 아무 영향이 없다.
+ */
+public final class RoutingHint {
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private RoutingHint() {
+    }
+
+    public static <T> T forcePrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.spring_practice.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 TsidGenerator로 발급한다 ({@code @GeneratedValue(IDENTITY)} 대신 사용).
+ * INSERT 전에 ID가 정해지므로 Hibernate가 INSERT를 모아 JDBC 배치로 보낼 수 있다.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
@@ -0,0 +1,39 @@
+package com.example.spring_practice.global.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * {@link Tsid} 필드용 Hibernate ID 생성기.
+ * 노드 번호는 hibernate.id.tsid.node 설정(spring.jpa.properties로 지정)에서 읽는다. 서버마다 다른 값을 줘야 한다.
+ */
+public class TsidIdentifierGenerator implements BeforeExecutionGenerator {
+    public static final String NODE_SETTING = "hibernate.id.tsid.node";
+
+    private final TsidGenerator generator;
+
+    public TsidIdentifierGenerator(Tsid config, Member idMember, CustomIdGeneratorCreationContext context) {
+        Object node = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_SETTING);
+        this.generator = TsidGenerator.shared(node == null ? 0 : Integer.parseInt(node.toString().trim()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return generator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.spring_practice.global.log;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 접근 로그 한 건. 요청 스레드에서 만들어 링 버퍼에 넣고, 직렬화는 AccessLogWriter 스레드에서 한다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"time", "method", "route", "uri", "status", "bytes", "latencyMicros", "sqlCount", "sqlTimeMicros", "memberId"})
+public class AccessLogEntry {
+    private final Instant time;
+    private final String method;
+    private final String route;     // 매핑된 경로 템플릿 (예: /posts/{postId}), 매핑 전 종료 시 null
+    private final String uri;
+    private final int status;
+    private final long bytes;
+    private final long latencyMicros;
+    private final int sqlCount;
+    private final long sqlTimeMicros;
+    private final Long memberId;
+}
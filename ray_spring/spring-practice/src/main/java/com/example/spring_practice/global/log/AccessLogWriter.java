@@ -0,0 +1,100 @@
+package com.example.spring_practice.global.log;
+
+import com.example.spring_practice.global.util.MpscRingBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그 비동기 기록기.
+ * 요청 스레드는 링 버퍼에 넣기만 하고(가득 차면 버리고 카운트), 전용 스레드가 모아서 JSON 한 줄씩
+ * ACCESS_LOG 로거(logback-spring.xml의 롤링 파일)로 쓴다. 디스크가 느려도 요청 스레드는 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final int DRAIN_BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final boolean enabled;
+    private final MpscRingBuffer<AccessLogEntry> buffer;
+    private final ObjectMapper objectMapper;
+    private final Counter droppedCounter;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public AccessLogWriter(@Value("${access-log.enabled:true}") boolean enabled,
+                           @Value("${access-log.buffer-size:8192}") int bufferSize,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.objectMapper = objectMapper;
+        this.droppedCounter = Counter.builder("access.log.dropped")
+                .description("버퍼가 가득 차 버린 접근 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("access.log.queue.depth", buffer, MpscRingBuffer::size)
+                .description("기록 대기 중인 접근 로그 수")
+                .register(meterRegistry);
+        this.writerThread = new Thread(this::drainLoop, "access-log-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            writerThread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 요청 스레드에서 호출. 절대 블록되지 않는다
+    public void offer(AccessLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (buffer.drain(this::write, DRAIN_BATCH_SIZE) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 종료 시 남은 항목 기록
+        buffer.drain(this::write, Integer.MAX_VALUE);
+    }
+
+    private void write(AccessLogEntry entry) {
+        try {
+            ACCESS_LOG.info(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write access log entry", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+}
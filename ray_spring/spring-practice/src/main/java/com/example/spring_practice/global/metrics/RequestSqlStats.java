@@ -0,0 +1,50 @@
+package com.example.spring_practice.global.metrics;
+
+/**
+ * 요청 하나 동안 실행된 SQL 문 수와 DB 시간.
+ * AccessLogFilter가 요청 스레드에 시작/종료를 걸고, SqlStatementListener가 문장마다 누적한다.
+ * 요청 밖(스케줄러, 백그라운드 스레드)에서 실행된 SQL은 집계하지 않는다.
+ * 비동기 응답(StreamingResponseBody 등)은 요청 속성에 둔 같은 집계를 비동기 스레드에서 resume해 이어서 센다.
+ */
+public class RequestSqlStats {
+    public static final String REQUEST_ATTRIBUTE = RequestSqlStats.class.getName();
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedNanos;
+
+    public static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // 다른 스레드에서 시작한 요청의 집계를 이 스레드에서 이어 간다 (끝나면 end로 해제)
+    public static void resume(RequestSqlStats stats) {
+        CURRENT.set(stats);
+    }
+
+    // 요청 밖이면 null
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static RequestSqlStats end() {
+        RequestSqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void record(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.spring_practice.global.metrics;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 응답(Callable, StreamingResponseBody)을 실행하는 스레드에서도 요청의 SQL 집계를 이어서 센다.
+ * AccessLogFilter가 요청 속성에 둔 RequestSqlStats를 작업 전에 붙이고 끝나면 뗀다.
+ */
+public class RequestSqlStatsCallableInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object stats = request.getAttribute(RequestSqlStats.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stats instanceof RequestSqlStats requestSqlStats) {
+            RequestSqlStats.resume(requestSqlStats);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        RequestSqlStats.end();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.spring_practice.global.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * p6spy 이벤트로 현재 요청의 SQL 실행 수/시간을 센다 (p6spy starter가 JdbcEventListener 빈을 자동 등록).
+ */
+@Component
+public class SqlStatementListener extends SimpleJdbcEventListener {
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.record(timeElapsedNanos);
+        }
+    }
+}
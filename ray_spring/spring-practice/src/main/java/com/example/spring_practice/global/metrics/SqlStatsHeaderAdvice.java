@@ -0,0 +1,43 @@
+package com.example.spring_practice.global.metrics;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 헤더로 이 요청의 SQL 실행 수/시간을 보여준다. 내부 정보라 기본은 꺼져 있고
+ * 로컬/테스트에서만 {@code metrics.sql-headers.enabled=true}로 켠다.
+ * 본문을 쓰기 직전에 붙이므로 서비스 처리 중 실행된 SQL이 모두 포함된다.
+ */
+@Hidden
+@ConditionalOnProperty(name = "metrics.sql-headers.enabled", havingValue = "true")
+@RestControllerAdvice
+public class SqlStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+    public static final String SQL_COUNT_HEADER = "X-Sql-Count";
+    public static final String SQL_TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            response.getHeaders().set(SQL_COUNT_HEADER, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(SQL_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getElapsedNanos())));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.spring_practice.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 목록 응답을 {@code ApiResponse}와 같은 모양({"message": ..., "data": [...]})으로 한 건씩 써 내려간다.
+ * 원소를 받는 즉시 JsonGenerator로 직렬화하므로 요청당 메모리는 목록 크기와 무관하게 버퍼 크기로 일정하다.
+ * 봉투는 첫 원소(또는 끝)에서 쓰기 시작하므로, 그 전에 던진 예외(404 등)는 평소처럼 GlobalExceptionHandler가 응답한다.
+ * producer는 요청 스레드가 아닌 비동기 스레드에서 실행된다. 느린 클라이언트에 쓰는 동안 커넥션을 잡지 않도록
+ * producer는 트랜잭션 없이 실행되는 내보내기 서비스(PostExportService, CommentExportService)로 둔다.
+ * 조회는 keyset 배치마다 리포지토리 호출 하나가 짧은 읽기 트랜잭션으로 끝나고, 원소는 커넥션 없이 sink로 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiResponseStreamer {
+    private final ObjectMapper objectMapper;
+
+    public <T> StreamingResponseBody list(String message, Consumer<Consumer<T>> producer) {
+        return outputStream -> write(outputStream, message, producer);
+    }
+
+    public <T> void write(OutputStream outputStream, String message, Consumer<Consumer<T>> producer) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(outputStream);
+        // 응답 스트림은 컨테이너가 닫는다
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        Envelope envelope = new Envelope(generator, message);
+        try {
+            producer.accept(envelope::writeElement);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // 도중에 실패하면 봉투를 닫지 않으므로 클라이언트는 잘린 JSON으로 실패를 알 수 있다
+        envelope.end();
+        generator.close();
+    }
+
+    private static class Envelope {
+        private final JsonGenerator generator;
+        private final String message;
+        private boolean started;
+
+        Envelope(JsonGenerator generator, String message) {
+            this.generator = generator;
+            this.message = message;
+        }
+
+        void writeElement(Object element) {
+            try {
+                start();
+                generator.writeObject(element);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void end() throws IOException {
+            start();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        private void start() throws IOException {
+            if (started) {
+                return;
+            }
+            started = true;
+            generator.writeStartObject();
+            generator.writeStringField("message", message);
+            generator.writeArrayFieldStart("data");
+        }
+    }
+}
@@ -13,6 +13,7 @@ public enum ErrorCode {
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "중복된 아이디 입니다."),
     DUPLICATE_NICKNAME(HttpStatus.CONFLICT, "중복된 닉네임 입니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST,"비밀번호가 올바르지 않습니다."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "인증 요청이 많습니다. 잠시 후 다시 시도해주세요."),
     INVALID_PASSWORD_FORM(HttpStatus.BAD_REQUEST,"비밀번호는 8자 이상 20자 이하이며, 대문자, 소문자, 숫자, 특수문자를 각각 최소 1개 포함해야 합니다."),
 
     SERVER_ERROR(HttpStatus.BAD_REQUEST, "서버 내부 오류입니다."),
@@ -20,12 +21,15 @@ public enum ErrorCode {
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."),
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."),
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     NO_PERMISSION(HttpStatus.FORBIDDEN, "수정/삭제 권한이 없습니다."),
+    ADMIN_ONLY(HttpStatus.FORBIDDEN, "관리자만 사용할 수 있습니다."),
 
     ALLREADY_POST_LIKE(HttpStatus.CONFLICT, "이미 좋아요 한 게시물 입니다."),
     POST_LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "좋아요 하지 않은 게시물 입니다."),
 
     IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 저장에 실패했습니다"),
+    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "이미지를 찾을 수 없습니다."),
     TEST(HttpStatus.FORBIDDEN, "Test");
     private final HttpStatus httpStatus;
     private final String message;
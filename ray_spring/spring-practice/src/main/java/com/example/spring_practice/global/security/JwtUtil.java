@@ -1,7 +1,11 @@
 package com.example.spring_practice.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,53 +13,144 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT 발급/검증. 서명 키와 파서는 한 번만 만들고, 토큰은 요청당 한 번만 파싱한다.
+ * 검증이 끝난 토큰은 (토큰 다이제스트 → 클레임)으로 만료 시각까지만 캐시해 서명 검증을 반복하지 않는다.
+ */
 @Component
 public class JwtUtil {
+    private static final String MEMBER_ID_CLAIM = "mid";
+    private static final String ROLE_CLAIM = "role";
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final Long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        // max-size가 0 이하이면 캐시 없이 매번 검증
+        this.verifiedTokens = cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(new UntilTokenExpiry())
+                    .build()
+                : null;
+    }
 
-    public String generateToken(String email) {
+    public String generateToken(Long memberId, String email, String role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .subject(email)
+                .claim(MEMBER_ID_CLAIM, memberId)
+                .claim(ROLE_CLAIM, role)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰을 검증하고 클레임을 반환한다. 유효하지 않으면 JwtException(또는 IllegalArgumentException)을 던진다.
+     */
+    public Claims parseClaims(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
 
-        return claims.getSubject();
+        String key = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(key, claims);
+        return claims;
     }
 
-    public boolean validateToken(String token) {
+    // 검증된 클레임만으로 인증 주체 생성 (DB 조회 없음). 유효하지 않은 토큰이면 null
+    public MemberPrincipal resolvePrincipal(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return toPrincipal(parseClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public MemberPrincipal getPrincipalFromToken(String token) {
+        return toPrincipal(parseClaims(token));
+    }
+
+    public String getEmailFromToken(String token) {
+        return parseClaims(token).getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return resolvePrincipal(token) != null;
+    }
+
+    private MemberPrincipal toPrincipal(Claims claims) {
+        // 이전 형식 토큰에는 memberId/role 클레임이 없다
+        Number memberId = claims.get(MEMBER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        return new MemberPrincipal(
+                memberId != null ? memberId.longValue() : null,
+                claims.getSubject(),
+                role != null ? role : MemberPrincipal.DEFAULT_ROLE
+        );
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date exp = claims.getExpiration();
+        return exp != null && !exp.after(new Date());
+    }
+
+    // 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 항목은 토큰 만료 시각에 맞춰 제거
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            if (exp == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMillis = Math.max(0, exp.getTime() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.example.spring_practice.global.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 로그인 시점에만 쓰는 UserDetails. 토큰 발급에 필요한 memberId를 함께 들고 있다.
+ */
+@Getter
+public class MemberDetails extends User {
+    private final Long memberId;
+
+    public MemberDetails(Long memberId, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.memberId = memberId;
+    }
+}
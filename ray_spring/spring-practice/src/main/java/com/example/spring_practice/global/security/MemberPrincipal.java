@@ -0,0 +1,27 @@
+package com.example.spring_practice.global.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+
+/**
+ * 검증된 JWT 클레임만으로 만든 인증 주체.
+ * 요청마다 회원 테이블을 조회하지 않도록 memberId와 권한을 토큰에서 그대로 가져온다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberPrincipal implements Principal {
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+    // security.admin-emails에 등록한 회원 (전체 내보내기 등 운영용 API)
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final Long memberId;
+    private final String email;
+    private final String role;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.spring_practice.global.security;
+
+import com.example.spring_practice.domain.comment.dto.CommentOwnership;
+import com.example.spring_practice.domain.comment.repository.CommentRepository;
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import com.example.spring_practice.global.response.CustomException;
+import com.example.spring_practice.global.response.ErrorCode;
+import com.example.spring_practice.global.util.RequestScopedCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글/댓글 작성자 조회. 엔티티 대신 ID만 조회하고, 결과는 요청 범위로 캐시해
+ * 권한 확인과 이어지는 서비스 호출이 같은 조회를 반복하지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OwnershipLookup {
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final RequestScopedCache requestScopedCache;
+
+    public Long getPostAuthorId(Long postId) {
+        return requestScopedCache.get("post.author." + postId, () -> postRepository.findAuthorIdByPostId(postId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND)));
+    }
+
+    public CommentOwnership getCommentOwnership(Long commentId) {
+        return requestScopedCache.get("comment.ownership." + commentId, () -> commentRepository.findOwnership(commentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.spring_practice.global.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시/검증을 PasswordHashingPool에서 실행하는 PasswordEncoder.
+ * 회원 조회 등 DB 작업은 요청 스레드(트랜잭션)에 그대로 두고, CPU를 쓰는 BCrypt 연산만 풀로 넘긴다.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final PasswordHashingPool pool;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return pool.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return pool.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
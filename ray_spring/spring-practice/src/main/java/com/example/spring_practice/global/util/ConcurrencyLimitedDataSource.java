@@ -0,0 +1,137 @@
+package com.example.spring_practice.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 앞의 동시 사용 제한. 커넥션을 빌릴 때 허가를 얻고, 커넥션을 닫을(반납할) 때 돌려준다.
+ * 가상 스레드는 개수 제한이 없어 요청이 몰리면 수천 개가 동시에 풀을 기다리는데,
+ * 공정(FIFO) 세마포어에서 먼저 줄을 세워 풀 내부 경합과 무더기 타임아웃을 막는다.
+ * 제한 시간 안에 허가를 못 얻으면 SQLTransientConnectionException (풀 타임아웃과 같은 종류)을 던진다.
+ * 풀이 여러 개(primary/replica)면 풀마다 하나씩 두고, 메트릭은 pool 태그로 구분한다.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final long timeoutMillis;
+    private final Timer acquireTimer;
+    private final Counter rejectedCounter;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrency, long timeoutMillis, MeterRegistry meterRegistry) {
+        this(target, "default", maxConcurrency, timeoutMillis, meterRegistry);
+    }
+
+    public ConcurrencyLimitedDataSource(DataSource target, String poolName, int maxConcurrency, long timeoutMillis, MeterRegistry meterRegistry) {
+        super(target);
+        Tags tags = Tags.of("pool", poolName);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeoutMillis = timeoutMillis;
+        this.acquireTimer = Timer.builder("db.limiter.acquire")
+                .description("DB 동시 실행 허가를 얻기까지 기다린 시간")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("db.limiter.rejected")
+                .description("대기 시간 초과로 거절된 커넥션 요청 수")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.waiting", permits, Semaphore::getQueueLength)
+                .description("허가를 기다리는 스레드 수")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.available", permits, Semaphore::availablePermits)
+                .description("남은 허가 수")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 동시 실행 허가 대기 중 인터럽트", e);
+        }
+        acquireTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new SQLTransientConnectionException("DB 동시 실행 허가 대기 시간 초과 (" + timeoutMillis + "ms)");
+        }
+    }
+
+    private Connection releaseOnClose(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PermitReleasingHandler(connection));
+    }
+
+    private class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private boolean released;
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("unwrap".equals(name) && ((Class<?>) args[0]).isInstance(proxy)) {
+                return proxy;
+            }
+            if ("isWrapperFor".equals(name) && ((Class<?>) args[0]).isInstance(proxy)) {
+                return true;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                // close를 여러 번 호출해도 허가는 한 번만 돌려준다
+                if ("close".equals(name) && !released) {
+                    released = true;
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.spring_practice.global.util;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 동안만 유지되는 캐시. 요청 속성(request attribute)에 보관하므로 요청이 끝나면 함께 사라진다.
+ * 권한 확인(@PreAuthorize)에서 조회한 결과를 같은 요청의 서비스 호출에서 재사용할 때 쓴다.
+ * 요청 밖(스케줄러 등)에서는 캐시 없이 매번 loader를 실행한다.
+ */
+@Component
+public class RequestScopedCache {
+    private static final String ATTRIBUTE_PREFIX = RequestScopedCache.class.getName() + ".";
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+
+        String name = ATTRIBUTE_PREFIX + key;
+        Object cached = attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T value = loader.get();
+        if (value != null) {
+            attributes.setAttribute(name, value, RequestAttributes.SCOPE_REQUEST);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.spring_practice.integration;
+
+import com.example.spring_practice.domain.member.dto.LoginRequestDto;
+import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.domain.member.repository.MemberRepository;
+import com.example.spring_practice.domain.member.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+/**
+ * 로그인 중 BCrypt 검증이 트랜잭션(커넥션) 밖에서 실행되는지 확인한다.
+ * 테스트 트랜잭션이 있으면 확인할 수 없으므로 @Transactional 없이 별도 메모리 DB를 쓴다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:login-transaction;MODE=MySQL")
+@ActiveProfiles("test")
+public class LoginTransactionTest {
+    private static final String PASSWORD = "Asdf1234@";
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void 비밀번호_검증_중에는_트랜잭션이_없다() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        memberRepository.save(new Member(name + "@test.com", passwordEncoder.encode(PASSWORD), name));
+
+        AtomicReference<Boolean> transactionActive = new AtomicReference<>();
+        willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).given(passwordEncoder).matches(any(), any());
+
+        authService.login(LoginRequestDto.builder().email(name + "@test.com").password(PASSWORD).build());
+
+        assertThat(transactionActive.get()).isFalse();
+    }
+}
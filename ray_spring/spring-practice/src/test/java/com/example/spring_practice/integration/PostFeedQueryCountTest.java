@@ -0,0 +1,151 @@
+package com.example.spring_practice.integration;
+
+import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.domain.member.repository.MemberRepository;
+import com.example.spring_practice.domain.post.entity.Post;
+import com.example.spring_practice.domain.post.entity.PostLike;
+import com.example.spring_practice.domain.post.repository.PostLikeRepository;
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import com.example.spring_practice.global.metrics.SqlStatsHeaderAdvice;
+import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@Import(QueryCounter.Config.class)
+public class PostFeedQueryCountTest {
+    private static final int POST_COUNT = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private Member member;
+
+    @BeforeEach
+    void setup() {
+        member = memberRepository.save(Member.builder()
+                .email("feed@test.com")
+                .nickname("feed")
+                .password(passwordEncoder.encode("Asdf1234@"))
+                .profileImgUrl("testUrl").build());
+
+        // 게시글 절반은 좋아요 누른 상태
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("title" + i)
+                    .content("content" + i)
+                    .member(member).build());
+            if (i % 2 == 0) {
+                postLikeRepository.save(new PostLike(member, post));
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @WithMockUser("feed@test.com")
+    void 피드_쿼리수는_페이지_크기와_무관() throws Exception {
+        long smallPageQueries = countFeedQueries(1);
+        long largePageQueries = countFeedQueries(50);
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    @WithMockUser("feed@test.com")
+    void 피드는_좋아요_댓글_컬렉션을_로딩하지_않음() throws Exception {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/posts").param("size", "50"))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @WithMockUser("feed@test.com")
+    void 피드는_게시글_엔티티를_영속성_컨텍스트에_올리지_않음() throws Exception {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/posts").param("size", "50"))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getEntityStatistics(Post.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void 토큰_인증은_회원_테이블을_조회하지_않음() throws Exception {
+        String token = jwtUtil.generateToken(member.getMemberId(), member.getEmail(), MemberPrincipal.DEFAULT_ROLE);
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/posts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getQueries()).noneMatch(query -> query.contains("FROM Member"));
+    }
+
+    @Test
+    void 요청별_SQL_실행_수를_응답_헤더로_노출() throws Exception {
+        String token = jwtUtil.generateToken(member.getMemberId(), member.getEmail(), MemberPrincipal.DEFAULT_ROLE);
+
+        MvcResult result = mockMvc.perform(get("/posts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatsHeaderAdvice.SQL_TIME_HEADER))
+                .andReturn();
+
+        // 피드 조회 + 좋아요 여부 조회
+        assertThat(Integer.parseInt(result.getResponse().getHeader(SqlStatsHeaderAdvice.SQL_COUNT_HEADER))).isEqualTo(2);
+    }
+
+    // QueryBudgetTest와 같이 JDBC 문 단위로 센다 (Hibernate 통계는 HQL 실행만 세어 네이티브/지연 로딩 쿼리를 놓친다)
+    private long countFeedQueries(int size) throws Exception {
+        em.clear();
+
+        return queryCounter.count(() -> mockMvc.perform(get("/posts").param("size", String.valueOf(size)))
+                .andExpect(status().isOk()));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.spring_practice.integration;
 
 import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.member.repository.MemberRepository;
+import com.example.spring_practice.domain.post.dto.PostListResponseDto;
 import com.example.spring_practice.domain.post.dto.PostRequestDto;
 import com.example.spring_practice.domain.post.dto.PostResponseDto;
 import com.example.spring_practice.domain.post.dto.PostSummaryResponseDto;
@@ -9,12 +10,17 @@ import com.example.spring_practice.domain.post.entity.Post;
 import com.example.spring_practice.domain.post.entity.PostLike;
 import com.example.spring_practice.domain.post.repository.PostLikeRepository;
 import com.example.spring_practice.domain.post.repository.PostRepository;
+import com.example.spring_practice.domain.post.service.PostCounterReconciler;
+import com.example.spring_practice.domain.post.service.ViewCountBuffer;
 import com.example.spring_practice.domain.shared.ImageService;
 import com.example.spring_practice.global.response.ApiResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -58,6 +64,12 @@ public class PostIntegrationTest {
     private PostLikeRepository postLikeRepository;
     @Autowired
     private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private PostCounterReconciler postCounterReconciler;
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
 
     @BeforeEach
     void setup() {
@@ -114,18 +126,69 @@ public class PostIntegrationTest {
         // then
         String responseBody = result.getResponse().getContentAsString();
 
-        ApiResponse<List<PostSummaryResponseDto>> response = objectMapper.readValue(
+        ApiResponse<PostListResponseDto> response = objectMapper.readValue(
                 responseBody,
-                new TypeReference<ApiResponse<List<PostSummaryResponseDto>>>() {}
+                new TypeReference<ApiResponse<PostListResponseDto>>() {}
         );
-        List<PostSummaryResponseDto> postSummaryList = response.getData();
-        PostSummaryResponseDto postSummary1 = postSummaryList.get(0);
-        PostSummaryResponseDto postSummary2 = postSummaryList.get(1);
+        // 최신순 정렬
+        List<PostSummaryResponseDto> postSummaryList = response.getData().getPosts();
+        PostSummaryResponseDto postSummary1 = postSummaryList.get(1);
+        PostSummaryResponseDto postSummary2 = postSummaryList.get(0);
         assertThat(postSummaryList.size()).isEqualTo(2);
         assertThat(postSummary1.getTitle()).isEqualTo("title1");
         assertThat(postSummary2.getTitle()).isEqualTo("title2");
         assertThat(postSummary1.isPostLiked()).isFalse();
         assertThat(postSummary2.isPostLiked()).isTrue();
+        assertThat(response.getData().getNextCursor()).isNull();
+    }
+
+    @Test
+    @WithMockUser("post1@test.com")
+    void 글_목록_커서_페이지네이션_성공_200() throws Exception {
+        // given
+        Member member = memberRepository.findByEmail("post1@test.com").get();
+        for (int i = 3; i <= 5; i++) {
+            postRepository.save(Post.builder()
+                    .title("title" + i)
+                    .content("content" + i)
+                    .member(member).build());
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        MvcResult first = mockMvc.perform(get("/posts").param("size", "3"))
+                .andExpect(status().isOk())
+                .andReturn();
+        PostListResponseDto firstPage = objectMapper.readValue(
+                first.getResponse().getContentAsString(),
+                new TypeReference<ApiResponse<PostListResponseDto>>() {}
+        ).getData();
+
+        MvcResult second = mockMvc.perform(get("/posts")
+                        .param("size", "3")
+                        .param("cursor", firstPage.getNextCursor()))
+                .andExpect(status().isOk())
+                .andReturn();
+        PostListResponseDto secondPage = objectMapper.readValue(
+                second.getResponse().getContentAsString(),
+                new TypeReference<ApiResponse<PostListResponseDto>>() {}
+        ).getData();
+
+        // then
+        assertThat(firstPage.getPosts()).extracting(PostSummaryResponseDto::getTitle)
+                .containsExactly("title5", "title4", "title3");
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getPosts()).extracting(PostSummaryResponseDto::getTitle)
+                .containsExactly("title2", "title1");
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @WithMockUser("post1@test.com")
+    void 글_목록_잘못된_커서_실패_400() throws Exception {
+        mockMvc.perform(get("/posts").param("cursor", "invalid-cursor"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -151,6 +214,25 @@ public class PostIntegrationTest {
         assertThat(postResponseDto.getPostSummary().getViewCount()).isEqualTo(1);
     }
 
+    @Test
+    @WithMockUser("post1@test.com")
+    void 글_상세보기_조회수_버퍼_반영_성공() throws Exception {
+        // given
+        Long postId = postRepository.findAll().get(0).getPostId();
+
+        // when
+        mockMvc.perform(get("/posts/"+postId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/posts/"+postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.postSummary.viewCount").value(2));
+        viewCountBuffer.flush();
+        em.clear();
+
+        // then
+        assertThat(postRepository.findById(postId).get().getViewCount()).isEqualTo(2);
+    }
+
     @Test
     @WithMockUser("post1@test.com")
     void 글_상세보기_게시글_없음_실패_404() throws Exception {
@@ -315,6 +397,42 @@ public class PostIntegrationTest {
         assertThat(postRepository.findById(postId)).isNotPresent();
     }
 
+    @Test
+    @WithMockUser("post1@test.com")
+    void 글삭제_좋아요_있는_글_성공_200() throws Exception {
+        // given
+        Post myPost = postRepository.findAll().get(0);
+        Long postId = myPost.getPostId();
+        Member member2 = memberRepository.findByEmail("post2@test.com").get();
+        postLikeRepository.save(new PostLike(member2, myPost));
+        em.flush();
+        em.clear();
+        // when
+        mockMvc.perform(delete("/posts/"+postId))
+                .andExpect(status().isOk());
+        // then
+        assertThat(postRepository.findById(postId)).isNotPresent();
+        assertThat(postLikeRepository.existsByPost_PostIdAndMember_MemberId(postId, member2.getMemberId())).isFalse();
+    }
+
+    @Test
+    @WithMockUser("post1@test.com")
+    void 글수정_게시글_엔티티를_로딩하지_않음() throws Exception {
+        // given
+        Long postId = postRepository.findAll().get(0).getPostId();
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        // when
+        mockMvc.perform(multipart(HttpMethod.PATCH, "/posts/"+postId)
+                        .param("title", "newTitle")
+                        .param("content", "newContent"))
+                .andExpect(status().isOk());
+        // then
+        assertThat(statistics.getEntityStatistics(Post.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+    }
+
     @Test
     @WithMockUser("post1@test.com")
     void 글삭제_권한없음_실패_403()throws Exception {
@@ -339,7 +457,8 @@ public class PostIntegrationTest {
                 .andExpect(status().isOk());
         assertThat(postLikeRepository.findByPost_PostIdAndMember_MemberId(postId,
                         memberRepository.findByEmail("post1@test.com").get().getMemberId())).isPresent();
-
+        em.clear();
+        assertThat(postRepository.findById(postId).get().getLikeCount()).isEqualTo(1);
     }
 
     @Test
@@ -406,5 +525,27 @@ public class PostIntegrationTest {
                 memberRepository.findByEmail("post1@test.com").get().getMemberId())).isNotPresent();
     }
 
-}
+    @Test
+    void 좋아요_댓글수_보정_성공() {
+        // given
+        Post post = postRepository.findAll().get(0);
+        Long postId = post.getPostId();
+        postLikeRepository.save(PostLike.builder()
+                .member(memberRepository.findByEmail("post2@test.com").get())
+                .post(post).build());
+        em.flush();
+        em.createNativeQuery("UPDATE post SET like_count = 7, comment_count = 3 WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .executeUpdate();
+        em.clear();
 
+        // when
+        postCounterReconciler.reconcile();
+        em.clear();
+
+        // then
+        Post reconciled = postRepository.findById(postId).get();
+        assertThat(reconciled.getLikeCount()).isEqualTo(1);
+        assertThat(reconciled.getCommentCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.spring_practice.integration;
+
+import com.example.spring_practice.domain.comment.dto.CommentRequestDto;
+import com.example.spring_practice.domain.comment.entity.Comment;
+import com.example.spring_practice.domain.comment.repository.CommentRepository;
+import com.example.spring_practice.domain.member.dto.EditPasswordRequestDto;
+import com.example.spring_practice.domain.member.dto.LoginRequestDto;
+import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.domain.member.repository.MemberRepository;
+import com.example.spring_practice.domain.post.entity.Post;
+import com.example.spring_practice.domain.post.entity.PostLike;
+import com.example.spring_practice.domain.post.repository.PostLikeRepository;
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 수 예산. 같은 예산을 데이터 1/50/500건에서 모두 지켜야 하므로
+ * 데이터 수에 비례해 늘어나는 조회(N+1)가 생기면 빌드가 실패한다.
+ * 데이터: 작성자의 게시글 N개, 대상 게시글에 다른 회원 N명의 댓글과 좋아요 N개.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@Import(QueryCounter.Config.class)
+public class QueryBudgetTest {
+    private static final String PASSWORD = "Asdf1234@";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManager em;
+
+    private Member author;
+    private Post targetPost;
+    private Comment authorComment;
+    private String bearerToken;
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 피드_조회(int n) throws Exception {
+        seed(n);
+        assertBudget(2, get("/posts").param("size", "50"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 게시글_상세_조회(int n) throws Exception {
+        seed(n);
+        assertBudget(3, get("/posts/" + targetPost.getPostId()));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 게시글_등록(int n) throws Exception {
+        seed(n);
+        assertBudget(2, multipart("/posts")
+                .param("title", "budget")
+                .param("content", "budget content"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 게시글_수정(int n) throws Exception {
+        seed(n);
+        assertBudget(3, multipart(HttpMethod.PATCH, "/posts/" + targetPost.getPostId())
+                .param("title", "edited")
+                .param("content", "edited content"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 게시글_삭제(int n) throws Exception {
+        seed(n);
+        // 좋아요/댓글이 N개여도 벌크 DELETE라 일정해야 한다
+        assertBudget(5, delete("/posts/" + targetPost.getPostId()));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 좋아요(int n) throws Exception {
+        seed(n);
+        assertBudget(5, post("/posts/" + targetPost.getPostId() + "/like"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 좋아요_취소(int n) throws Exception {
+        seed(n);
+        postLikeRepository.save(new PostLike(author, targetPost));
+        em.flush();
+        em.clear();
+        assertBudget(8, delete("/posts/" + targetPost.getPostId() + "/like"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 댓글_목록_조회(int n) throws Exception {
+        seed(n);
+        assertBudget(3, get("/posts/" + targetPost.getPostId() + "/comments"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 댓글_등록(int n) throws Exception {
+        seed(n);
+        assertBudget(5, post("/posts/" + targetPost.getPostId() + "/comments")
+                .content(commentBody("budget comment"))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 댓글_수정(int n) throws Exception {
+        seed(n);
+        assertBudget(3, patch("/posts/" + targetPost.getPostId() + "/comments/" + authorComment.getCommentId())
+                .content(commentBody("edited comment"))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 댓글_삭제(int n) throws Exception {
+        seed(n);
+        assertBudget(4, delete("/posts/" + targetPost.getPostId() + "/comments/" + authorComment.getCommentId()));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 내_프로필_조회(int n) throws Exception {
+        seed(n);
+        assertBudget(2, get("/users/my-profile"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 프로필_수정(int n) throws Exception {
+        seed(n);
+        assertBudget(4, multipart(HttpMethod.PATCH, "/users/profile")
+                .param("nickname", "renamed"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 비밀번호_수정(int n) throws Exception {
+        seed(n);
+        assertBudget(3, patch("/users/password")
+                .content(objectMapper.writeValueAsString(
+                        EditPasswordRequestDto.builder().password("Qwer1234@").build()))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 중복_확인(int n) throws Exception {
+        seed(n);
+        assertBudget(1, get("/users/email/duplicate-check").param("email", "author@test.com"));
+        assertBudget(1, get("/users/nickname/duplicate-check").param("nickname", "author"));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 로그인(int n) throws Exception {
+        seed(n);
+        assertBudget(3, post("/auth/login")
+                .content(objectMapper.writeValueAsString(
+                        LoginRequestDto.builder().email("author@test.com").password(PASSWORD).build()))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @ParameterizedTest(name = "데이터 {0}건")
+    @ValueSource(ints = {1, 50, 500})
+    void 회원가입(int n) throws Exception {
+        seed(n);
+        assertBudget(3, multipart("/auth/signup")
+                .param("email", "budget@test.com")
+                .param("password", PASSWORD)
+                .param("nickname", "budget"));
+    }
+
+    private void seed(int n) {
+        // BCrypt는 한 번만 계산해 모든 회원이 같은 해시를 쓴다
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        author = memberRepository.save(member("author", encodedPassword));
+
+        for (int i = 0; i < n; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("title" + i)
+                    .content("content" + i)
+                    .imgUrl("testUrl" + i)
+                    .member(author).build());
+            if (i == 0) {
+                targetPost = post;
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            Member other = memberRepository.save(member("m" + i, encodedPassword));
+            commentRepository.save(Comment.builder()
+                    .content("comment" + i)
+                    .member(other)
+                    .post(targetPost).build());
+            postLikeRepository.save(new PostLike(other, targetPost));
+        }
+        authorComment = commentRepository.save(Comment.builder()
+                .content("author comment")
+                .member(author)
+                .post(targetPost).build());
+
+        em.flush();
+        em.clear();
+        bearerToken = "Bearer " + jwtUtil.generateToken(author.getMemberId(), author.getEmail(), MemberPrincipal.DEFAULT_ROLE);
+    }
+
+    private void assertBudget(int max, MockHttpServletRequestBuilder request) throws Exception {
+        queryCounter.assertQueries(() -> {
+            mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearerToken))
+                    .andExpect(status().is2xxSuccessful());
+            // 테스트 트랜잭션은 커밋되지 않으므로 미뤄진 변경 감지 UPDATE를 직접 내보내 함께 센다
+            em.flush();
+        }, max);
+        em.clear();
+    }
+
+    private static Member member(String name, String encodedPassword) {
+        return Member.builder()
+                .email(name + "@test.com")
+                .nickname(name)
+                .password(encodedPassword)
+                .profileImgUrl("testUrl").build();
+    }
+
+    private String commentBody(String content) throws Exception {
+        return objectMapper.writeValueAsString(CommentRequestDto.builder().content(content).build());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.spring_practice.integration;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 실행 카운터. p6spy가 감싼 DataSource에서 실행된 모든 문(조회, DML, 배치)을 센다.
+ * 요청별 X-Sql-Count 헤더와 달리 응답 본문이 없는 요청과 테스트 안에서 호출한 flush까지 포함한다.
+ * 사용하는 테스트 클래스에서 {@code @Import(QueryCounter.Config.class)}로 등록한다.
+ */
+public class QueryCounter extends SimpleJdbcEventListener {
+    private final AtomicLong statements = new AtomicLong();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        statements.incrementAndGet();
+    }
+
+    public long count(ThrowingRunnable action) throws Exception {
+        long before = statements.get();
+        action.run();
+        return statements.get() - before;
+    }
+
+    // 데이터 양과 무관하게 max 이하여야 통과 (N+1이 생기면 데이터 수만큼 늘어나 실패)
+    public long assertQueries(ThrowingRunnable action, int max) throws Exception {
+        long executed = count(action);
+        assertThat(executed)
+                .as("SQL 실행 수 (예산 %d)", max)
+                .isLessThanOrEqualTo(max);
+        return executed;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @TestConfiguration
+    public static class Config {
+        @Bean
+        public QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.spring_practice.integration;
+
+import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.domain.member.repository.MemberRepository;
+import com.example.spring_practice.domain.post.entity.Post;
+import com.example.spring_practice.domain.post.repository.PostCounterRepository;
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시(회원/게시글 엔티티, email 자연 키, 쿼리 캐시)가 켜진 상태에서 조회가 DB를 거치지 않는지,
+ * 회원 정보나 게시글 카운터 변경 후 캐시가 새 값을 내주는지 확인한다.
+ * 캐시에는 커밋된 데이터만 올라가므로 테스트 트랜잭션(@Transactional) 없이 커밋하고, 다른 테스트와 섞이지 않게 별도 메모리 DB를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:second-level-cache;MODE=MySQL",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+public class SecondLevelCacheTest {
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        member = inTransaction(() -> memberRepository.save(Member.builder()
+                .email(name + "@test.com")
+                .nickname(name)
+                .password("encoded")
+                .profileImgUrl("testUrl").build()));
+    }
+
+    @Test
+    void 이메일_조회는_두_번째부터_DB를_거치지_않는다() {
+        inTransaction(() -> memberRepository.findByEmail(member.getEmail()));
+
+        long queries = countQueries(() -> memberRepository.findByEmail(member.getEmail()).orElseThrow());
+
+        assertThat(queries).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void 닉네임_변경이_캐시에_반영된다() {
+        inTransaction(() -> memberRepository.findByEmail(member.getEmail()));
+
+        inTransaction(() -> {
+            memberRepository.findById(member.getMemberId()).orElseThrow().updateNickname(member.getNickname() + "-new");
+            return null;
+        });
+
+        Member cached = inTransaction(() -> memberRepository.findByEmail(member.getEmail()).orElseThrow());
+        assertThat(cached.getNickname()).isEqualTo(member.getNickname() + "-new");
+    }
+
+    @Test
+    void 비밀번호와_이미지_변경이_캐시에_반영된다() {
+        inTransaction(() -> memberRepository.findById(member.getMemberId()));
+
+        inTransaction(() -> {
+            Member found = memberRepository.findById(member.getMemberId()).orElseThrow();
+            found.editPassword("re-encoded");
+            found.updateImageUrl("newUrl");
+            return null;
+        });
+
+        Member cached = inTransaction(() -> memberRepository.findById(member.getMemberId()).orElseThrow());
+        assertThat(cached.getPassword()).isEqualTo("re-encoded");
+        assertThat(cached.getProfileImgUrl()).isEqualTo("newUrl");
+    }
+
+    @Test
+    void 닉네임_중복_확인은_쿼리_캐시를_쓰고_변경되면_무효화된다() {
+        String newNickname = member.getNickname() + "-x";
+        inTransaction(() -> memberRepository.existsByNickname(newNickname));
+
+        assertThat(countQueries(() -> memberRepository.existsByNickname(newNickname))).isZero();
+
+        inTransaction(() -> {
+            memberRepository.findById(member.getMemberId()).orElseThrow().updateNickname(newNickname);
+            return null;
+        });
+
+        assertThat(inTransaction(() -> memberRepository.existsByNickname(newNickname))).isTrue();
+    }
+
+    @Test
+    void 게시글_상세_조회는_두_번째부터_DB를_거치지_않는다() {
+        Post post = savePost();
+        inTransaction(() -> postRepository.findById(post.getPostId()));
+
+        long queries = countQueries(() -> postRepository.findById(post.getPostId()).orElseThrow().getMember().getNickname());
+
+        assertThat(queries).isZero();
+    }
+
+    @Test
+    void 좋아요_수_변경은_해당_게시글만_캐시에서_지운다() {
+        Post liked = savePost();
+        Post other = savePost();
+        inTransaction(() -> postRepository.findById(liked.getPostId()));
+        inTransaction(() -> postRepository.findById(other.getPostId()));
+
+        inTransaction(() -> postCounterRepository.increaseLikeCount(liked.getPostId()));
+
+        assertThat(countQueries(() -> postRepository.findById(other.getPostId()).orElseThrow())).isZero();
+        Post reloaded = inTransaction(() -> postRepository.findById(liked.getPostId()).orElseThrow());
+        assertThat(reloaded.getLikeCount()).isEqualTo(1);
+    }
+
+    private Post savePost() {
+        return inTransaction(() -> postRepository.save(Post.builder()
+                .title("title")
+                .content("content")
+                .member(member).build()));
+    }
+
+    private long countQueries(Supplier<?> query) {
+        long before = statistics.getPrepareStatementCount();
+        inTransaction(query);
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
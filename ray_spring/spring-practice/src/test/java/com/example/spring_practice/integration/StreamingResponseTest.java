@@ -0,0 +1,207 @@
+package com.example.spring_practice.integration;
+
+import com.example.spring_practice.domain.comment.entity.Comment;
+import com.example.spring_practice.domain.comment.repository.CommentRepository;
+import com.example.spring_practice.domain.comment.service.CommentExportService;
+import com.example.spring_practice.domain.member.entity.Member;
+import com.example.spring_practice.domain.member.repository.MemberRepository;
+import com.example.spring_practice.domain.post.entity.Post;
+import com.example.spring_practice.domain.post.repository.PostRepository;
+import com.example.spring_practice.domain.post.service.PostExportService;
+import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스트리밍 응답(댓글 스트리밍, 게시글 내보내기)을 비동기 디스패치까지 끝낸 뒤 확인한다.
+ * 본문은 비동기 스레드가 배치마다 짧은 트랜잭션으로 읽으므로, 테스트 트랜잭션 없이 별도 메모리 DB에 커밋된 데이터를 쓴다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:streaming-response;MODE=MySQL")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCounter.Config.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StreamingResponseTest {
+    // 내보내기 배치 크기(500)를 넘겨 다음 배치까지 읽게 한다
+    private static final int MANY_COMMENTS = 501;
+    private static final int MANY_POSTS = 501;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CommentExportService commentExportService;
+    @Autowired
+    private PostExportService postExportService;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Post post;
+    private Post busyPost;
+    private String userToken;
+    private String adminToken;
+
+    @BeforeAll
+    void seed() {
+        Member author = memberRepository.save(Member.builder()
+                .email("stream@test.com")
+                .nickname("stream")
+                .password("password")
+                .profileImgUrl("testUrl").build());
+        List<Post> olderPosts = new ArrayList<>();
+        for (int i = 0; i < MANY_POSTS; i++) {
+            olderPosts.add(post(author, "older post" + i));
+        }
+        postRepository.saveAll(olderPosts);
+        post = postRepository.save(post(author, "post"));
+        busyPost = postRepository.save(post(author, "busy post"));
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            comments.add(comment(author, post, "comment" + i));
+        }
+        for (int i = 0; i < MANY_COMMENTS; i++) {
+            comments.add(comment(author, busyPost, "busy comment" + i));
+        }
+        commentRepository.saveAll(comments);
+
+        userToken = "Bearer " + jwtUtil.generateToken(author.getMemberId(), author.getEmail(), MemberPrincipal.DEFAULT_ROLE);
+        adminToken = "Bearer " + jwtUtil.generateToken(author.getMemberId(), author.getEmail(), MemberPrincipal.ADMIN_ROLE);
+    }
+
+    @Test
+    void 댓글_스트리밍() throws Exception {
+        queryCounter.assertQueries(() -> stream("/posts/" + post.getPostId() + "/comments/stream", userToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].content").value("comment0")), 2);
+    }
+
+    @Test
+    void 배치_크기를_넘는_댓글도_이어서_읽는다() throws Exception {
+        // 존재 확인 1 + 배치 2
+        queryCounter.assertQueries(() -> stream("/posts/" + busyPost.getPostId() + "/comments/stream", userToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(MANY_COMMENTS))
+                .andExpect(jsonPath("$.data[500].content").value("busy comment500")), 3);
+    }
+
+    @Test
+    void 없는_게시글의_댓글_스트리밍은_404() throws Exception {
+        stream("/posts/1/comments/stream", userToken)
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 스트리밍_중_SQL도_요청_메트릭에_포함된다() throws Exception {
+        String route = "/posts/{postId}/comments/stream";
+        double before = sqlStatements(route);
+
+        stream("/posts/" + post.getPostId() + "/comments/stream", userToken)
+                .andExpect(status().isOk());
+
+        // 존재 확인 + 배치 조회. 둘 다 요청 스레드가 아닌 비동기 스레드에서 실행된다
+        assertThat(sqlStatements(route) - before).isEqualTo(2);
+    }
+
+    @Test
+    void 게시글_내보내기는_관리자만() throws Exception {
+        mockMvc.perform(get("/posts/export").header(HttpHeaders.AUTHORIZATION, userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void 게시글_내보내기() throws Exception {
+        // 배치 2개 × (피드 1 + 좋아요 여부 1)
+        queryCounter.assertQueries(() -> stream("/posts/export", adminToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(MANY_POSTS + 2))
+                .andExpect(jsonPath("$.data[0].title").value("busy post")), 4);
+    }
+
+    @Test
+    void 댓글_내보내기는_배치마다_쿼리_하나이고_트랜잭션_밖에서_쓴다() throws Exception {
+        List<Boolean> writtenInTransaction = new ArrayList<>();
+
+        long queries = queryCounter.count(() -> commentExportService.exportComments(busyPost.getPostId(), null,
+                comment -> writtenInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive())));
+
+        // 존재 확인 1 + 배치(500, 1) 2
+        assertThat(queries).isEqualTo(3);
+        assertThat(writtenInTransaction).hasSize(MANY_COMMENTS).containsOnly(false);
+    }
+
+    @Test
+    void 게시글_내보내기는_배치마다_쿼리_두_개이고_트랜잭션_밖에서_쓴다() throws Exception {
+        List<Boolean> writtenInTransaction = new ArrayList<>();
+
+        long queries = queryCounter.count(() -> postExportService.exportFeed(null,
+                summary -> writtenInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive())));
+
+        // 배치(500, 3)마다 피드 1 + 좋아요 여부 1
+        assertThat(queries).isEqualTo(4);
+        assertThat(writtenInTransaction).hasSize(MANY_POSTS + 2).containsOnly(false);
+    }
+
+    private ResultActions stream(String uri, String token) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private double sqlStatements(String route) {
+        DistributionSummary summary = meterRegistry.find("http.server.requests.sql.statements")
+                .tag("uri", route)
+                .summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private static Post post(Member author, String title) {
+        return Post.builder()
+                .title(title)
+                .content(title + " content")
+                .imgUrl("testUrl")
+                .member(author).build();
+    }
+
+    private static Comment comment(Member author, Post post, String content) {
+        return Comment.builder()
+                .content(content)
+                .member(author)
+                .post(post).build();
+    }
+}
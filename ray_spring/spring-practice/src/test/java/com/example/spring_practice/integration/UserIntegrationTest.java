@@ -18,6 +18,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -161,6 +162,35 @@ public class UserIntegrationTest {
 
         assertNotNull(accessToken);
         assertTrue(jwtUtil.validateToken(accessToken));
+        assertThat(jwtUtil.getPrincipalFromToken(accessToken).getMemberId())
+                .isEqualTo(memberRepository.findByEmail("test@test.com").get().getMemberId());
+    }
+
+    @Test
+    void 로그인시_낮은_cost_비밀번호_재해시_성공_200() throws Exception {
+        // given
+        String email = "rehash@test.com";
+        memberRepository.save(Member.builder()
+                .email(email)
+                .nickname("rehash")
+                .password(new BCryptPasswordEncoder(4).encode("Asdf1234@")).build());
+        String loginContent = objectMapper.writeValueAsString(
+                LoginRequestDto.builder()
+                        .email(email)
+                        .password("Asdf1234@")
+                        .build()
+        );
+
+        // when
+        mockMvc.perform(post("/auth/login")
+                        .content(loginContent)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // then
+        String rehashed = memberRepository.findByEmail(email).get().getPassword();
+        assertThat(rehashed).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("Asdf1234@", rehashed)).isTrue();
     }
 
     @Test
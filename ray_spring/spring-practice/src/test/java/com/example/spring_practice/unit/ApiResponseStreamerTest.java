@@ -0,0 +1,60 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.comment.dto.CommentResponseDto;
+import com.example.spring_practice.global.response.ApiResponse;
+import com.example.spring_practice.global.response.ApiResponseStreamer;
+import com.example.spring_practice.global.response.CustomException;
+import com.example.spring_practice.global.response.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ApiResponseStreamerTest {
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ApiResponseStreamer streamer = new ApiResponseStreamer(objectMapper);
+
+    @Test
+    void 스트리밍_결과는_ApiResponse_직렬화와_같다() throws IOException {
+        List<CommentResponseDto> comments = List.of(
+                new CommentResponseDto(1L, "작성자1", "https://img/1", LocalDateTime.of(2025, 10, 21, 12, 0), "첫 댓글", true),
+                new CommentResponseDto(2L, "작성자2", null, LocalDateTime.of(2025, 10, 21, 12, 1), "둘째 댓글", false));
+
+        String streamed = write("댓글", sink -> comments.forEach(sink));
+
+        assertThat(streamed).isEqualTo(objectMapper.writeValueAsString(ApiResponse.success("댓글", comments)));
+    }
+
+    @Test
+    void 빈_목록도_봉투를_쓴다() throws IOException {
+        String streamed = write("댓글", sink -> {
+        });
+
+        assertThat(streamed).isEqualTo("{\"message\":\"댓글\",\"data\":[]}");
+    }
+
+    @Test
+    void 첫_원소_전에_실패하면_아무것도_쓰지_않는다() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> streamer.<CommentResponseDto>write(out, "댓글", sink -> {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        })).isInstanceOf(CustomException.class);
+        assertThat(out.size()).isZero();
+    }
+
+    private String write(String message, Consumer<Consumer<CommentResponseDto>> producer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.write(out, message, producer);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.member.dto.LoginRequestDto;
+import com.example.spring_practice.domain.member.repository.MemberRepository;
+import com.example.spring_practice.domain.member.service.AuthService;
+import com.example.spring_practice.domain.member.service.CustomMemberDetailsService;
+import com.example.spring_practice.global.response.CustomException;
+import com.example.spring_practice.global.response.ErrorCode;
+import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.PasswordHashingPool;
+import com.example.spring_practice.global.security.PooledPasswordEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 DaoAuthenticationProvider를 거쳐 로그인 실패(401)와 해시 풀 포화(503)가 구분되는지 확인한다.
+ */
+public class AuthServiceTest {
+    private MemberRepository memberRepository;
+    private PasswordHashingPool pool;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        given(memberRepository.findByEmail(anyString())).willReturn(Optional.empty());
+        pool = mock(PasswordHashingPool.class);
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new CustomMemberDetailsService(memberRepository, List.of()));
+        provider.setPasswordEncoder(new PooledPasswordEncoder(new BCryptPasswordEncoder(4), pool));
+        authService = new AuthService(memberRepository, mock(JwtUtil.class), new ProviderManager(provider));
+    }
+
+    @Test
+    void 없는_회원은_로그인_실패() {
+        willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get()).given(pool).execute(any());
+
+        assertThatThrownBy(() -> authService.login(login("nobody@test.com")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LOGIN_FAILED);
+    }
+
+    @Test
+    void 없는_회원이어도_해시_풀이_포화면_503() {
+        given(pool.execute(any())).willThrow(new CustomException(ErrorCode.AUTH_BUSY));
+
+        assertThatThrownBy(() -> authService.login(login("nobody@test.com")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_BUSY);
+    }
+
+    @Test
+    void 인증_제공자가_감싼_해시_풀_포화도_503() {
+        AuthenticationManager authenticationManager = authentication -> {
+            throw new InternalAuthenticationServiceException("busy", new CustomException(ErrorCode.AUTH_BUSY));
+        };
+        AuthService wrappingAuthService = new AuthService(memberRepository, mock(JwtUtil.class), authenticationManager);
+
+        assertThatThrownBy(() -> wrappingAuthService.login(login("member@test.com")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_BUSY);
+    }
+
+    private static LoginRequestDto login(String email) {
+        return LoginRequestDto.builder().email(email).password("Asdf1234@").build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.global.util.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ConcurrencyLimitedDataSourceTest {
+    private DataSource target;
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, 50, meterRegistry);
+    }
+
+    @Test
+    void 허가를_다_쓰면_대기하다_시간_초과() throws SQLException {
+        Connection first = dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("db.limiter.rejected").tag("pool", "default").counter().count()).isEqualTo(1);
+
+        first.close();
+    }
+
+    @Test
+    void 커넥션을_닫으면_허가를_한_번만_반납() throws SQLException {
+        Connection first = dataSource.getConnection();
+        first.close();
+        first.close();
+
+        Connection second = dataSource.getConnection();
+        assertThat(second).isNotNull();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void 풀에서_커넥션을_못_얻으면_허가를_돌려줌() throws SQLException {
+        given(target.getConnection()).willThrow(new SQLTransientConnectionException("pool timeout"));
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool timeout");
+
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        verify(target, times(2)).getConnection();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.post.dto.PostFeedPage;
+import com.example.spring_practice.domain.post.dto.PostSummaryQueryDto;
+import com.example.spring_practice.domain.post.event.PostChangedEvent;
+import com.example.spring_practice.domain.post.service.FeedCache;
+import com.example.spring_practice.global.datasource.RoutingHint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedCacheTest {
+    private FeedCache feedCache;
+    private AtomicInteger loadCount;
+    private final List<Boolean> primaryForced = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        feedCache = new FeedCache(true, 100, 60, 3000, new SimpleMeterRegistry());
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    void 같은_페이지는_캐시에서_조회() {
+        feedCache.get(null, 10, () -> load(1L));
+        feedCache.get(null, 10, () -> load(1L));
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(feedCache.stats().hitCount()).isEqualTo(1);
+        assertThat(feedCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 게시글_수정시_해당_게시글이_있는_페이지만_무효화() {
+        feedCache.get(null, 10, () -> load(1L));
+        feedCache.get("cursor", 10, () -> load(2L));
+
+        feedCache.onPostChanged(PostChangedEvent.updated(1L));
+        feedCache.get(null, 10, () -> load(1L));
+        feedCache.get("cursor", 10, () -> load(2L));
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 게시글_작성시_전체_무효화() {
+        feedCache.get(null, 10, () -> load(1L));
+        feedCache.get("cursor", 10, () -> load(2L));
+
+        feedCache.onPostChanged(PostChangedEvent.created(3L));
+        feedCache.get(null, 10, () -> load(1L));
+        feedCache.get("cursor", 10, () -> load(2L));
+
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    void 조회_중에_무효화되면_결과를_캐시에_남기지_않는다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<PostFeedPage> slowLoad = executor.submit(() -> feedCache.get(null, 10, () -> {
+            loading.countDown();
+            await(invalidated);
+            return load(1L);
+        }));
+
+        await(loading);
+        feedCache.onPostChanged(PostChangedEvent.created(2L));
+        invalidated.countDown();
+        slowLoad.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        feedCache.get(null, 10, () -> load(1L));
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 무효화_직후_다시_채우기는_primary에서_읽는다() {
+        assertThat(feedCache.get(null, 10, () -> loadRecordingRoute(1L))).isNotNull();
+        assertThat(primaryForced).containsExactly(false);
+
+        feedCache.onPostChanged(PostChangedEvent.created(2L));
+        feedCache.get(null, 10, () -> loadRecordingRoute(1L));
+
+        assertThat(primaryForced).containsExactly(false, true);
+    }
+
+    private PostFeedPage loadRecordingRoute(Long postId) {
+        primaryForced.add(RoutingHint.isPrimaryForced());
+        return load(postId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PostFeedPage load(Long postId) {
+        loadCount.incrementAndGet();
+        PostSummaryQueryDto post = new PostSummaryQueryDto(
+                postId, "title", LocalDateTime.now(), "author", null, 0L, 0L, 0L);
+        return new PostFeedPage(List.of(post), null);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.shared.ImageController;
+import com.example.spring_practice.global.response.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ImageControllerTest {
+    private static final String HASH = "ab".repeat(32);
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageController imageController;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(uploadDir.resolve("ab/ab"));
+        Files.writeString(uploadDir.resolve("ab/ab/" + HASH + ".png"), CONTENT);
+        Files.writeString(uploadDir.resolve("ab/ab/" + HASH + ".png.ref"), "1");
+        imageController = new ImageController(uploadDir.toString(), 100);
+    }
+
+    @Test
+    void 불변_캐시_헤더와_해시_ETag로_전체_응답() throws Exception {
+        MockHttpServletResponse response = serve(get("/images/ab/ab/" + HASH + ".png"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ETag가_같으면_304() throws Exception {
+        MockHttpServletRequest request = get("/images/ab/ab/" + HASH + ".png");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"other\", \"" + HASH + "\"");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void 범위_요청은_206() throws Exception {
+        MockHttpServletRequest request = get("/images/ab/ab/" + HASH + ".png");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void 범위가_파일_밖이면_416() throws Exception {
+        MockHttpServletRequest request = get("/images/ab/ab/" + HASH + ".png");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void UUID_파일명은_내용_해시로_ETag() throws Exception {
+        Files.writeString(uploadDir.resolve("legacy-uuid.jpg"), CONTENT);
+        String expected = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        MockHttpServletResponse response = serve(get("/images/legacy-uuid.jpg"));
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + expected + "\"");
+    }
+
+    @Test
+    void 참조수_파일과_루트_밖_경로는_제공하지_않음() {
+        assertThatThrownBy(() -> serve(get("/images/ab/ab/" + HASH + ".png.ref")))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> serve(get("/images/../outside.png")))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageController.serve(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
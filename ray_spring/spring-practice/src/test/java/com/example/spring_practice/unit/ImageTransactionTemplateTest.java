@@ -0,0 +1,172 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.shared.ImageService;
+import com.example.spring_practice.domain.shared.ImageTransactionTemplate;
+import com.example.spring_practice.domain.shared.StagedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ImageTransactionTemplateTest {
+    private ImageService imageService;
+    private SimpleMeterRegistry meterRegistry;
+    private ImageTransactionTemplate imageTransactionTemplate;
+    private MultipartFile uploadedFile;
+
+    @BeforeEach
+    void setUp() {
+        imageService = mock(ImageService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        imageTransactionTemplate = new ImageTransactionTemplate(imageService,
+                new TransactionTemplate(new NoOpTransactionManager()), meterRegistry);
+    }
+
+    @Test
+    void 이미지를_교체하면_커밋_후_새_이미지를_옮기고_이전_이미지를_반환한다() {
+        MultipartFile file = mock(MultipartFile.class);
+        StagedImage stagedImage = new StagedImage(Path.of("new.part"), "http://localhost/images/new.png");
+        StagedImage pendingImage = new StagedImage(Path.of("new.pending"), "http://localhost/images/new.png");
+        given(imageService.stageImg(file)).willReturn(stagedImage);
+        given(imageService.markPending(stagedImage)).willReturn(pendingImage);
+
+        imageTransactionTemplate.execute(file, imgUrl -> {
+            imageTransactionTemplate.releaseAfterCommit("http://localhost/images/old.png");
+            return null;
+        });
+
+        InOrder order = inOrder(imageService);
+        order.verify(imageService).markPending(stagedImage);
+        order.verify(imageService).promoteImg(pendingImage);
+        order.verify(imageService).releaseImg("http://localhost/images/old.png");
+    }
+
+    @Test
+    void 롤백되면_이전_이미지를_반환하지_않는다() {
+        assertThatThrownBy(() -> imageTransactionTemplate.execute(null, imgUrl -> {
+            imageTransactionTemplate.releaseAfterCommit("http://localhost/images/old.png");
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(imageService, never()).releaseImg(any());
+    }
+
+    @Test
+    void 이미지가_없던_경우_반환할_것이_없다() {
+        imageTransactionTemplate.execute(null, imgUrl -> {
+            imageTransactionTemplate.releaseAfterCommit(null);
+            return null;
+        });
+
+        verify(imageService, never()).releaseImg(any());
+    }
+
+    @Test
+    void 커밋_후_옮기기에_실패하면_임시_파일을_남기고_재시도한다() {
+        StagedImage pendingImage = commitWithImage();
+        willThrow(new IllegalStateException("disk full")).willDoNothing().given(imageService).promoteImg(pendingImage);
+
+        imageTransactionTemplate.execute(uploadedFile, imgUrl -> null);
+
+        verify(imageService, never()).discardImg(any());
+        assertThat(meterRegistry.counter("image.promote.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.promote.pending").gauge().value()).isEqualTo(1);
+
+        imageTransactionTemplate.retryFailedPromotions();
+
+        verify(imageService, times(2)).promoteImg(pendingImage);
+        assertThat(meterRegistry.get("image.promote.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void 커밋_직전에_대기_상태로_못_바꾸면_롤백하고_임시_파일을_지운다() {
+        MultipartFile file = mock(MultipartFile.class);
+        StagedImage stagedImage = new StagedImage(Path.of("new.part"), "http://localhost/images/new.png");
+        given(imageService.stageImg(file)).willReturn(stagedImage);
+        willThrow(new IllegalStateException("disk full")).given(imageService).markPending(stagedImage);
+
+        assertThatThrownBy(() -> imageTransactionTemplate.execute(file, imgUrl -> null))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(imageService, never()).promoteImg(any());
+        verify(imageService, times(2)).discardImg(stagedImage);
+    }
+
+    @Test
+    void 재시도를_다_쓰면_알림_카운터를_올리고_대기열에서_뺀다() {
+        StagedImage pendingImage = commitWithImage();
+        willThrow(new IllegalStateException("disk full")).given(imageService).promoteImg(pendingImage);
+
+        imageTransactionTemplate.execute(uploadedFile, imgUrl -> null);
+        for (int i = 0; i < 9; i++) {
+            imageTransactionTemplate.retryFailedPromotions();
+        }
+
+        verify(imageService, times(10)).promoteImg(pendingImage);
+        assertThat(meterRegistry.counter("image.promote.abandoned").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.promote.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void 기동하면_남아_있는_대기_파일을_다시_옮긴다() {
+        StagedImage leftOver = new StagedImage(Path.of("left.pending"), "http://localhost/images/left.png");
+        given(imageService.findPendingImgs()).willReturn(List.of(leftOver));
+
+        imageTransactionTemplate.recoverPendingPromotions();
+        assertThat(meterRegistry.get("image.promote.pending").gauge().value()).isEqualTo(1);
+
+        imageTransactionTemplate.retryFailedPromotions();
+
+        verify(imageService).promoteImg(leftOver);
+        assertThat(meterRegistry.get("image.promote.pending").gauge().value()).isZero();
+    }
+
+    // uploadedFile을 올리면 커밋 직전에 대기 상태로 바뀐 이미지를 돌려준다
+    private StagedImage commitWithImage() {
+        uploadedFile = mock(MultipartFile.class);
+        StagedImage stagedImage = new StagedImage(Path.of("new.part"), "http://localhost/images/new.png");
+        StagedImage pendingImage = new StagedImage(Path.of("new.pending"), "http://localhost/images/new.png");
+        given(imageService.stageImg(uploadedFile)).willReturn(stagedImage);
+        given(imageService.markPending(stagedImage)).willReturn(pendingImage);
+        return pendingImage;
+    }
+
+    // 커넥션 없이 동기화 콜백만 돌려 주는 트랜잭션 매니저
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
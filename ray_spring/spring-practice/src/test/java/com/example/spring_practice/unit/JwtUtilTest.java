@@ -0,0 +1,48 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.global.security.JwtUtil;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtUtilTest {
+    private static final String SECRET = "qeofjimqrpijbqniperjwdfkomfevnjgipawfmkoerjioawfdkslkejvoi9519845146545648ewf654";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+
+    @Test
+    void 토큰_클레임으로_인증주체_생성() {
+        String token = jwtUtil.generateToken(7L, "test@test.com", MemberPrincipal.DEFAULT_ROLE);
+
+        MemberPrincipal principal = jwtUtil.resolvePrincipal(token);
+
+        assertThat(principal.getMemberId()).isEqualTo(7L);
+        assertThat(principal.getEmail()).isEqualTo("test@test.com");
+        assertThat(principal.getRole()).isEqualTo(MemberPrincipal.DEFAULT_ROLE);
+    }
+
+    @Test
+    void 같은_토큰은_캐시된_클레임_재사용() {
+        String token = jwtUtil.generateToken(7L, "test@test.com", MemberPrincipal.DEFAULT_ROLE);
+
+        assertThat(jwtUtil.parseClaims(token)).isSameAs(jwtUtil.parseClaims(token));
+    }
+
+    @Test
+    void 변조된_토큰은_거부() {
+        String token = jwtUtil.generateToken(7L, "test@test.com", MemberPrincipal.DEFAULT_ROLE);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtil.resolvePrincipal(tampered)).isNull();
+        assertThat(jwtUtil.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    void 만료된_토큰은_거부() {
+        JwtUtil expiredIssuer = new JwtUtil(SECRET, -1_000L, 100);
+        String token = expiredIssuer.generateToken(7L, "test@test.com", MemberPrincipal.DEFAULT_ROLE);
+
+        assertThat(jwtUtil.resolvePrincipal(token)).isNull();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.shared.ImageSize;
+import com.example.spring_practice.domain.shared.ImageVariantGenerator;
+import com.example.spring_practice.domain.shared.LocalImageService;
+import com.example.spring_practice.domain.shared.StagedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalImageServiceTest {
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void 같은_내용은_한_번만_저장하고_참조수_증가() throws Exception {
+        LocalImageService imageService = contentAddressed();
+
+        String first = imageService.saveImg(image("a.JPG", "same content"));
+        String second = imageService.saveImg(image("b.jpg", "same content"));
+
+        assertThat(first).isEqualTo(second).matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.jpg");
+        assertThat(Files.readString(uploadDir.resolve(first + ".ref"))).isEqualTo("2");
+        assertThat(Files.readString(uploadDir.resolve(first))).isEqualTo("same content");
+        assertThat(imageService.getFullImgUrl(first)).isEqualTo("http://localhost:8080/images/" + first);
+    }
+
+    @Test
+    void 참조수가_0이_되면_파일_삭제() {
+        LocalImageService imageService = contentAddressed();
+        String first = imageService.saveImg(image("a.jpg", "content"));
+        imageService.saveImg(image("a.jpg", "content"));
+
+        imageService.releaseImg(first);
+        assertThat(uploadDir.resolve(first)).exists();
+
+        imageService.releaseImg(first);
+        assertThat(uploadDir.resolve(first)).doesNotExist();
+        assertThat(uploadDir.resolve(first + ".ref")).doesNotExist();
+    }
+
+    @Test
+    void 임시_저장한_이미지는_promote_전까지_최종_경로에_없음() {
+        LocalImageService imageService = contentAddressed();
+
+        StagedImage staged = imageService.stageImg(image("a.jpg", "staged"));
+        assertThat(uploadDir.resolve(staged.getImgUrl())).doesNotExist();
+
+        imageService.promoteImg(staged);
+        assertThat(uploadDir.resolve(staged.getImgUrl())).hasContent("staged");
+        assertThat(staged.getStagedFile()).doesNotExist();
+    }
+
+    @Test
+    void 커밋된_대기_파일은_재시작_후에도_찾아서_옮길_수_있고_정리되지_않음() throws Exception {
+        StagedImage pending = contentAddressed().markPending(contentAddressed().stageImg(image("a.jpg", "pending")));
+        StagedImage abandoned = contentAddressed().stageImg(image("b.jpg", "abandoned"));
+        FileTime dayAgo = FileTime.fromMillis(System.currentTimeMillis() - 25 * 60 * 60 * 1000L);
+        Files.setLastModifiedTime(pending.getStagedFile(), dayAgo);
+        Files.setLastModifiedTime(abandoned.getStagedFile(), dayAgo);
+
+        // 재시작한 것처럼 새 인스턴스로 찾는다
+        LocalImageService restarted = contentAddressed();
+        restarted.purgeStaleStagedFiles();
+        List<StagedImage> found = restarted.findPendingImgs();
+
+        assertThat(abandoned.getStagedFile()).doesNotExist();
+        assertThat(found).singleElement().satisfies(img -> {
+            assertThat(img.getStagedFile()).isEqualTo(pending.getStagedFile());
+            assertThat(img.getImgUrl()).isEqualTo(pending.getImgUrl());
+        });
+
+        restarted.promoteImg(found.get(0));
+        assertThat(uploadDir.resolve(pending.getImgUrl())).hasContent("pending");
+        assertThat(restarted.findPendingImgs()).isEmpty();
+    }
+
+    @Test
+    void 롤백되면_임시_파일만_삭제() {
+        LocalImageService imageService = new LocalImageService(uploadDir.toString(), "http://localhost:8080/images", "uuid", variantGenerator());
+
+        StagedImage staged = imageService.stageImg(image("a.jpg", "staged"));
+        imageService.discardImg(staged);
+
+        assertThat(staged.getStagedFile()).doesNotExist();
+        assertThat(uploadDir.resolve(staged.getImgUrl())).doesNotExist();
+    }
+
+    @Test
+    void uuid_모드는_기존_방식대로_저장() {
+        LocalImageService imageService = new LocalImageService(uploadDir.toString(), "http://localhost:8080/images", "uuid", variantGenerator());
+
+        String first = imageService.saveImg(image("a.jpg", "same content"));
+        String second = imageService.saveImg(image("a.jpg", "same content"));
+
+        assertThat(first).isNotEqualTo(second).endsWith(".jpg");
+        assertThat(uploadDir.resolve(first)).exists();
+    }
+
+    @Test
+    void 리사이즈_변형이_준비되기_전에는_원본_URL() throws Exception {
+        LocalImageService imageService = contentAddressed();
+        BufferedImage large = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(large, "png", bytes);
+
+        String imgUrl = imageService.saveImg(new MockMultipartFile("image", "large.png", MediaType.IMAGE_PNG_VALUE, bytes.toByteArray()));
+        String original = imageService.getFullImgUrl(imgUrl);
+
+        // 백그라운드 생성 완료 대기
+        String thumbnail = original;
+        for (int i = 0; i < 100 && thumbnail.equals(original); i++) {
+            Thread.sleep(50);
+            thumbnail = imageService.getFullImgUrl(imgUrl, ImageSize.THUMBNAIL);
+        }
+
+        assertThat(thumbnail).endsWith("_320.png");
+        BufferedImage variant = ImageIO.read(uploadDir.resolve(imgUrl.replace(".png", "_320.png")).toFile());
+        assertThat(variant.getWidth()).isEqualTo(320);
+        assertThat(variant.getHeight()).isEqualTo(160);
+        assertThat(imageService.getFullImgUrl(imgUrl, ImageSize.ORIGINAL)).isEqualTo(original);
+    }
+
+    @Test
+    void 아직_없는_변형은_잠시만_기억하고_생성되면_바로_반영() throws Exception {
+        ImageVariantGenerator generator = new ImageVariantGenerator(uploadDir.toString(), 1, 10, 100, 40_000_000, 0, new SimpleMeterRegistry());
+        Files.write(uploadDir.resolve("large.png"), png(2000, 1000));
+
+        // 생성 전에는 원본
+        assertThat(generator.resolve("large.png", ImageSize.AVATAR)).isEqualTo("large.png");
+
+        // "없음"을 기억하는 시간이 지나면 나중에 생긴 변형 파일도 반영
+        Files.write(uploadDir.resolve("large_64.png"), png(64, 32));
+        assertThat(generator.resolve("large.png", ImageSize.AVATAR)).isEqualTo("large_64.png");
+
+        // 생성이 끝나면 TTL과 관계없이 바로 반영
+        ImageVariantGenerator longTtl = new ImageVariantGenerator(uploadDir.toString(), 1, 10, 100, 40_000_000, 3600, new SimpleMeterRegistry());
+        assertThat(longTtl.resolve("large.png", ImageSize.THUMBNAIL)).isEqualTo("large.png");
+        longTtl.submit("large.png");
+        String thumbnail = "large.png";
+        for (int i = 0; i < 100 && thumbnail.equals("large.png"); i++) {
+            Thread.sleep(50);
+            thumbnail = longTtl.resolve("large.png", ImageSize.THUMBNAIL);
+        }
+        assertThat(thumbnail).isEqualTo("large_320.png");
+    }
+
+    @Test
+    void 픽셀_수_제한을_넘는_이미지는_디코딩하지_않고_원본_URL() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LocalImageService imageService = new LocalImageService(uploadDir.toString(), "http://localhost:8080/images", "content-addressed",
+                new ImageVariantGenerator(uploadDir.toString(), 1, 10, 100, 1_000_000, 10, meterRegistry));
+        String imgUrl = imageService.saveImg(new MockMultipartFile("image", "large.png", MediaType.IMAGE_PNG_VALUE, png(2000, 1000)));
+
+        for (int i = 0; i < 100 && meterRegistry.counter("image.variant.oversized").count() == 0; i++) {
+            Thread.sleep(50);
+        }
+
+        assertThat(meterRegistry.counter("image.variant.oversized").count()).isEqualTo(1);
+        assertThat(imageService.getFullImgUrl(imgUrl, ImageSize.THUMBNAIL)).isEqualTo(imageService.getFullImgUrl(imgUrl));
+        assertThat(uploadDir.resolve(imgUrl.replace(".png", "_320.png"))).doesNotExist();
+    }
+
+    private LocalImageService contentAddressed() {
+        return new LocalImageService(uploadDir.toString(), "http://localhost:8080/images", "content-addressed", variantGenerator());
+    }
+
+    private ImageVariantGenerator variantGenerator() {
+        return new ImageVariantGenerator(uploadDir.toString(), 1, 10, 100, 40_000_000, 10, new SimpleMeterRegistry());
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    private static MockMultipartFile image(String filename, String content) {
+        return new MockMultipartFile("image", filename, MediaType.IMAGE_JPEG_VALUE, content.getBytes());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.member.service.MemberDuplicateIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class MemberDuplicateIndexTest {
+
+    @Test
+    void 유일한_쓰기_주체면_없는_값은_DB_없이_없다고_답한다() {
+        MemberDuplicateIndex index = builtIndex(true);
+        index.addEmail("Taken@test.com");
+
+        assertThat(index.isComplete()).isTrue();
+        assertThat(index.mightContainEmail("taken@test.com")).isTrue();
+        assertThat(index.mightContainEmail("free@test.com")).isFalse();
+    }
+
+    @Test
+    void 다른_인스턴스도_가입을_받으면_없는_값도_DB로_넘긴다() {
+        MemberDuplicateIndex index = builtIndex(false);
+
+        assertThat(index.isComplete()).isFalse();
+        assertThat(index.mightContainEmail("free@test.com")).isTrue();
+        assertThat(index.mightContainNickname("free")).isTrue();
+    }
+
+    @Test
+    void 적재_전에는_DB로_넘긴다() {
+        MemberDuplicateIndex index = new MemberDuplicateIndex(mock(JdbcTemplate.class), 1_000, 0.01, true, new SimpleMeterRegistry());
+
+        assertThat(index.isComplete()).isFalse();
+        assertThat(index.mightContainNickname("free")).isTrue();
+    }
+
+    private static MemberDuplicateIndex builtIndex(boolean singleWriter) {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(0L);
+        MemberDuplicateIndex index = new MemberDuplicateIndex(jdbcTemplate, 1_000, 0.01, singleWriter, new SimpleMeterRegistry());
+        index.build();
+        return index;
+    }
+}
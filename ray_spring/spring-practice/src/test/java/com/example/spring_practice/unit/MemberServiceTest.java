@@ -4,8 +4,10 @@ import com.example.spring_practice.domain.member.dto.*;
 import com.example.spring_practice.domain.member.entity.Member;
 import com.example.spring_practice.domain.member.repository.MemberRepository;
 import com.example.spring_practice.domain.member.service.AuthService;
+import com.example.spring_practice.domain.member.service.MemberDuplicateIndex;
 import com.example.spring_practice.domain.member.service.MemberService;
 import com.example.spring_practice.domain.shared.ImageService;
+import com.example.spring_practice.domain.shared.ImageTransactionTemplate;
 import com.example.spring_practice.global.response.CustomException;
 import com.example.spring_practice.global.response.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +21,8 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.function.Function;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -34,16 +38,35 @@ public class MemberServiceTest {
     private AuthService authService;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private MemberDuplicateIndex memberDuplicateIndex;
+    @Mock
+    private ImageTransactionTemplate imageTransactionTemplate;
     @InjectMocks
     private MemberService memberService;
 
+    @BeforeEach
+    void setUp() {
+        runImageTransactionWith(null);
+    }
+
+    // 임시 저장/커밋 없이 DB 작업만 주어진 이미지 경로로 실행
+    private void runImageTransactionWith(String imgUrl) {
+        lenient().when(imageTransactionTemplate.execute(any(), any())).thenAnswer(invocation -> {
+            Function<String, Object> dbWork = invocation.getArgument(1);
+            return dbWork.apply(imgUrl);
+        });
+    }
+
 
     @Test
     void 회원가입_이미지_없음_성공(){
         // Given
+        when(memberDuplicateIndex.mightContainEmail(any())).thenReturn(true);
+        when(memberDuplicateIndex.mightContainNickname(any())).thenReturn(true);
         when(memberRepository.existsByEmail(any())).thenReturn(false);
         when(memberRepository.existsByNickname(any())).thenReturn(false);
-        when(memberRepository.save(any())).thenReturn(new Member("","",""));
+        when(memberRepository.saveAndFlush(any())).thenReturn(new Member("","",""));
 
         // When
         SignUpRequestDto signUpRequestDto = SignUpRequestDto.builder()
@@ -55,15 +78,17 @@ public class MemberServiceTest {
         memberService.signUp(signUpRequestDto);
 
         // Then
-        verify(memberRepository, times(1)).save(any());
+        verify(memberRepository, times(1)).saveAndFlush(any());
     }
 
     @Test
     void 회원가입_이미지_있음_성공(){
         // Given
+        when(memberDuplicateIndex.mightContainEmail(any())).thenReturn(true);
+        when(memberDuplicateIndex.mightContainNickname(any())).thenReturn(true);
         when(memberRepository.existsByEmail(any())).thenReturn(false);
         when(memberRepository.existsByNickname(any())).thenReturn(false);
-        when(memberRepository.save(any())).thenReturn(new Member("","",""));
+        when(memberRepository.saveAndFlush(any())).thenReturn(new Member("","",""));
         MockMultipartFile profileImage = new MockMultipartFile(
                 "profileImage",
                 "profile.jpg",
@@ -81,12 +106,13 @@ public class MemberServiceTest {
         memberService.signUp(signUpRequestDto);
 
         // Then
-        verify(memberRepository, times(1)).save(any());
+        verify(memberRepository, times(1)).saveAndFlush(any());
     }
 
     @Test
     void 회원가입_이메일_중복_실패(){
         // Given
+        when(memberDuplicateIndex.mightContainEmail(any())).thenReturn(true);
         when(memberRepository.existsByEmail(any())).thenReturn(true);
 
         // When
@@ -105,6 +131,8 @@ public class MemberServiceTest {
     @Test
     void 회원가입_닉네임_중복_실패(){
         // Given
+        when(memberDuplicateIndex.mightContainEmail(any())).thenReturn(true);
+        when(memberDuplicateIndex.mightContainNickname(any())).thenReturn(true);
         when(memberRepository.existsByEmail(any())).thenReturn(false);
         when(memberRepository.existsByNickname(any())).thenReturn(true);
 
@@ -190,7 +218,7 @@ public class MemberServiceTest {
                 "image content".getBytes()
         );
         String newProfileImgUrl = "https://new/profile/img";
-        when(imageService.saveImg(newProfileImage)).thenReturn(newProfileImgUrl);
+        runImageTransactionWith(newProfileImgUrl);
 
         EditProfileRequestDto editProfileRequestDto = EditProfileRequestDto.builder()
                 .nickname(null)
@@ -253,7 +281,7 @@ public class MemberServiceTest {
                 "image content".getBytes()
         );
         String newProfileImgUrl = "https://new/profile/img";
-        when(imageService.saveImg(newProfileImage)).thenReturn(newProfileImgUrl);
+        runImageTransactionWith(newProfileImgUrl);
 
         EditProfileRequestDto editProfileRequestDto = EditProfileRequestDto.builder()
                 .nickname(newNickName)
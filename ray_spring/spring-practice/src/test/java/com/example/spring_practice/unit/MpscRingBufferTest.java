@@ -0,0 +1,77 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.global.util.MpscRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MpscRingBufferTest {
+
+    @Test
+    void 가득_차면_기다리지_않고_거절() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        assertThat(buffer.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 여러_생산자가_넣은_항목을_빠짐없이_순서대로_꺼냄() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (long i = base; i < base + perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        List<Long> consumed = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain(consumed::add, 256);
+        }
+        executor.shutdownNow();
+
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(new HashSet<>(consumed)).hasSize(producers * perProducer);
+        // 생산자별 순서는 유지된다
+        long[] last = new long[producers];
+        Arrays.fill(last, -1);
+        for (long value : consumed) {
+            int producer = (int) (value / perProducer);
+            assertThat(value).isGreaterThan(last[producer]);
+            last[producer] = value;
+        }
+    }
+}
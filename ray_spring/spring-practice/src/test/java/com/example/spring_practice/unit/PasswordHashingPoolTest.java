@@ -0,0 +1,65 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.global.response.CustomException;
+import com.example.spring_practice.global.response.ErrorCode;
+import com.example.spring_practice.global.security.PasswordHashingPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PasswordHashingPoolTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 스레드 1개, 큐 1칸
+    private final PasswordHashingPool pool = new PasswordHashingPool(1, 1, 3000, meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    void 작업_결과_반환() {
+        assertThat(pool.execute(() -> "hashed")).isEqualTo("hashed");
+        assertThat(meterRegistry.get("auth.password.hash").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 풀과_큐가_가득_차면_즉시_503() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        // 실행 중 1건
+        CompletableFuture.runAsync(() -> pool.execute(() -> {
+            started.countDown();
+            return awaitRelease();
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        // 큐 대기 1건
+        CompletableFuture.runAsync(() -> pool.execute(this::awaitRelease));
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> pool.execute(() -> "rejected"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_BUSY);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
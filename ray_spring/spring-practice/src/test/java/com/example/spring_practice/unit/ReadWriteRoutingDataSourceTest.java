@@ -0,0 +1,213 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.global.datasource.ReadWriteRoutingDataSource;
+import com.example.spring_practice.global.datasource.ReplicaPool;
+import com.example.spring_practice.global.datasource.ReplicationLagGuard;
+import com.example.spring_practice.global.datasource.RoutingHint;
+import com.example.spring_practice.global.security.MemberPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * H2 메모리 DB 두 개를 primary/replica로 두고 어느 쪽에서 조회됐는지 확인한다.
+ */
+public class ReadWriteRoutingDataSourceTest {
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = h2("primary");
+        replica = h2("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica() {
+        Routing routing = routing(List.of(replica));
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+    }
+
+    @Test
+    void 쓰기_직후_같은_회원의_읽기는_primary() {
+        Routing routing = routing(List.of(replica));
+        login(1L);
+
+        routing.write();
+        assertThat(routing.read()).isEqualTo("primary");
+
+        login(2L);
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(meterRegistry.counter("db.route", "target", "primary", "reason", "read-your-writes").count()).isEqualTo(1);
+    }
+
+    @Test
+    void replica_장애면_primary로_대체하고_제외() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        given(down.getConnection()).willThrow(new SQLException("down"));
+        ReplicaPool replicaPool = new ReplicaPool(List.of(down, replica));
+        Routing routing = routing(replicaPool);
+
+        assertThat(routing.read()).isEqualTo("primary");
+        assertThat(replicaPool.healthyCount()).isEqualTo(1);
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void 상태_확인으로_복구된_replica를_다시_사용() throws SQLException {
+        DataSource flaky = mock(DataSource.class);
+        given(flaky.getConnection())
+                .willThrow(new SQLException("down"))
+                .willAnswer(invocation -> replica.getConnection());
+        ReplicaPool replicaPool = new ReplicaPool(List.of(flaky));
+        Routing routing = routing(replicaPool);
+
+        assertThat(routing.read()).isEqualTo("primary");
+        assertThat(routing.read()).isEqualTo("primary");
+
+        replicaPool.checkHealth();
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void 라우팅_힌트가_있으면_읽기도_primary() {
+        Routing routing = routing(List.of(replica));
+
+        assertThat(RoutingHint.forcePrimary(routing::read)).isEqualTo("primary");
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(meterRegistry.counter("db.route", "target", "primary", "reason", "hint").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 계정을_지정한_커넥션은_primary() throws SQLException {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(
+                primary, new ReplicaPool(List.of(replica)), new ReplicationLagGuard(Duration.ofSeconds(3)), meterRegistry);
+
+        try (Connection connection = dataSource.getConnection("", "")) {
+            assertThat(new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                    .queryForObject("SELECT name FROM whoami", String.class)).isEqualTo("primary");
+        }
+    }
+
+    @Test
+    void replica로_보낸_트랜잭션은_2차_캐시를_채우지_않는다() {
+        Routing routing = routing(List.of(replica));
+        Session session = mock(Session.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        given(entityManager.unwrap(Session.class)).willReturn(session);
+
+        routing.read(new EntityManagerHolder(entityManager));
+        verify(session).setCacheMode(CacheMode.GET);
+
+        routing.write(new EntityManagerHolder(entityManager));
+        verify(session, times(1)).setCacheMode(CacheMode.GET);
+    }
+
+    private Routing routing(List<DataSource> replicas) {
+        return routing(new ReplicaPool(replicas));
+    }
+
+    private Routing routing(ReplicaPool replicaPool) {
+        ReplicationLagGuard lagGuard = new ReplicationLagGuard(Duration.ofSeconds(3));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaPool, lagGuard, meterRegistry));
+        return new Routing(dataSource);
+    }
+
+    private static void login(Long memberId) {
+        MemberPrincipal principal = new MemberPrincipal(memberId, "m" + memberId + "@test.com", MemberPrincipal.DEFAULT_ROLE);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS whoami (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM whoami");
+        jdbcTemplate.update("INSERT INTO whoami VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static class Routing {
+        private final TransactionTemplate readTemplate;
+        private final TransactionTemplate writeTemplate;
+        private final JdbcTemplate jdbcTemplate;
+
+        Routing(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.readTemplate = new TransactionTemplate(transactionManager);
+            this.readTemplate.setReadOnly(true);
+            this.writeTemplate = new TransactionTemplate(transactionManager);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        String read() {
+            return readTemplate.execute(status -> whoami());
+        }
+
+        String write() {
+            return writeTemplate.execute(status -> whoami());
+        }
+
+        // JPA 트랜잭션처럼 세션이 트랜잭션에 묶인 상태에서 조회
+        String read(EntityManagerHolder holder) {
+            return readTemplate.execute(status -> withHolder(holder));
+        }
+
+        String write(EntityManagerHolder holder) {
+            return writeTemplate.execute(status -> withHolder(holder));
+        }
+
+        private String withHolder(EntityManagerHolder holder) {
+            Object key = new Object();
+            TransactionSynchronizationManager.bindResource(key, holder);
+            try {
+                return whoami();
+            } finally {
+                TransactionSynchronizationManager.unbindResource(key);
+            }
+        }
+
+        private String whoami() {
+            return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+        }
+    }
+}
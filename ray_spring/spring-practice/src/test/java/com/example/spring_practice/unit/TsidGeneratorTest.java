@@ -0,0 +1,81 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.global.id.TsidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TsidGeneratorTest {
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    void 시간순으로_증가하고_자바스크립트_안전_정수_범위() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidGenerator generator = new TsidGenerator(3, clock::get);
+
+        long first = generator.nextId();
+        clock.addAndGet(1);
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(second).isLessThan(1L << 53);
+        assertThat(TsidGenerator.timestampOf(first)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void 같은_밀리초에_순번을_다_쓰거나_시계가_뒤로_가도_증가() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidGenerator generator = new TsidGenerator(0, clock::get);
+
+        long previous = 0;
+        for (int i = 0; i < 1_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        clock.set(NOW - 10_000);
+        assertThat(generator.nextId()).isGreaterThan(previous);
+    }
+
+    @Test
+    void 노드가_다르면_같은_시각에도_겹치지_않음() {
+        TsidGenerator node1 = new TsidGenerator(1, () -> NOW);
+        TsidGenerator node2 = new TsidGenerator(2, () -> NOW);
+
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+        assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 여러_스레드에서_발급해도_중복_없음() throws Exception {
+        TsidGenerator generator = new TsidGenerator(0, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(200_000);
+    }
+}
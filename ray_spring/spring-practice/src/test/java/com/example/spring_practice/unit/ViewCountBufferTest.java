@@ -0,0 +1,111 @@
+package com.example.spring_practice.unit;
+
+import com.example.spring_practice.domain.post.service.ViewCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+public class ViewCountBufferTest {
+    private final AtomicLong flushed = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        given(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any())).willAnswer(invocation -> {
+            Collection<long[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> flushed.addAndGet(row[1]));
+            return new int[0][];
+        });
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        given(entityManagerFactory.getCache()).willReturn(mock(Cache.class));
+
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate, transactionTemplate, entityManagerFactory, meterRegistry);
+    }
+
+    @Test
+    void 반영_중에_들어온_조회수도_유실되지_않는다() throws InterruptedException {
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    viewCountBuffer.increase((long) (i % 3));
+                }
+                done.countDown();
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                viewCountBuffer.flush();
+            }
+        });
+        flusher.start();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        viewCountBuffer.flush();
+        executor.shutdown();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    void 아직_반영되지_않은_증가분을_반환한다() {
+        viewCountBuffer.increase(1L);
+        assertThat(viewCountBuffer.increase(1L)).isEqualTo(2);
+
+        viewCountBuffer.flush();
+
+        assertThat(viewCountBuffer.increase(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void 한_주기_동안_조회가_없던_게시글은_버퍼에서_치운다() {
+        viewCountBuffer.increase(1L);
+        viewCountBuffer.increase(2L);
+
+        viewCountBuffer.flush();
+        viewCountBuffer.increase(2L);
+        viewCountBuffer.flush();
+
+        assertThat(meterRegistry.get("post.view.pending.posts").gauge().value()).isEqualTo(1);
+        assertThat(flushed.get()).isEqualTo(3);
+
+        viewCountBuffer.flush();
+        assertThat(meterRegistry.get("post.view.pending.posts").gauge().value()).isZero();
+    }
+}